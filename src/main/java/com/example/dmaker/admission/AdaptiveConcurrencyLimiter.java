@@ -0,0 +1,151 @@
+package com.example.dmaker.admission;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 동시에 처리 중인 요청 수를 limit 까지만 허용하고, 넘치는 요청은 짧은 대기열에서만 기다리게 한다
+// limit 은 AIMD 로 움직인다. 응답 시간의 이동 평균이 목표를 넘으면 10% 줄이고(limit 만큼 요청이 끝날 때마다 최대 한 번),
+// 목표 안이면서 limit 까지 꽉 차게 쓰인 적이 있을 때만 1 늘린다
+// (한가할 때 빨리 끝난 요청으로 limit 을 늘리면 과부하가 와서야 limit 이 너무 컸다는 걸 알게 된다)
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double DECREASE_RATIO = 0.9;
+
+    // 응답 시간 이동 평균(EWMA)에서 새 샘플의 비중. 요청 하나의 튀는 값으로 limit 이 흔들리지 않게 한다
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    @Getter
+    private final String name;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueSize;
+    private final long queueTimeoutNanos;
+    private final long targetLatencyNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    private int limit;
+    private int inFlight;
+    private int waiting;
+
+    // 마지막으로 limit 이 바뀐 뒤에 limit 까지 꽉 찼거나 대기한 요청이 있었는지
+    private boolean saturated;
+    // 아직 샘플이 없으면 음수
+    private double smoothedLatencyNanos = -1;
+    // 줄인 뒤로 다시 줄이기 전까지 남은 release 수
+    // 줄이기 전에 들어온 요청들은 줄인 뒤에도 느리게 끝나므로, 그 요청들 때문에 연달아 줄이지 않는다
+    private int releasesUntilNextDecrease;
+
+    public AdaptiveConcurrencyLimiter(String name, AdmissionControlProperties.Limit properties) {
+        this.name = name;
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.queueSize = properties.getQueueSize();
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(properties.getQueueTimeoutMillis());
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(properties.getTargetLatencyMillis());
+        this.limit = Math.max(minLimit, Math.min(maxLimit, properties.getInitialLimit()));
+    }
+
+    // 허용되면 true. 대기열이 가득 찼거나 대기 시간 안에 자리가 나지 않으면 false
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (inFlight < limit) {
+                inFlight++;
+                if (inFlight >= limit) {
+                    saturated = true;
+                }
+                return true;
+            }
+
+            saturated = true;
+            if (waiting >= queueSize) {
+                return false;
+            }
+
+            waiting++;
+            try {
+                long remainingNanos = queueTimeoutNanos;
+                while (inFlight >= limit) {
+                    if (remainingNanos <= 0) {
+                        return false;
+                    }
+                    remainingNanos = permitReleased.awaitNanos(remainingNanos);
+                }
+                inFlight++;
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(long latencyNanos) {
+        lock.lock();
+        try {
+            inFlight--;
+
+            boolean canDecrease = releasesUntilNextDecrease == 0;
+            if (!canDecrease) {
+                releasesUntilNextDecrease--;
+            }
+
+            smoothedLatencyNanos = smoothedLatencyNanos < 0
+                    ? latencyNanos
+                    : smoothedLatencyNanos + LATENCY_SMOOTHING * (latencyNanos - smoothedLatencyNanos);
+
+            if (smoothedLatencyNanos > targetLatencyNanos) {
+                if (canDecrease) {
+                    limit = Math.max(minLimit, (int) (limit * DECREASE_RATIO));
+                    releasesUntilNextDecrease = limit;
+                    saturated = false;
+                }
+            } else if (saturated && limit < maxLimit) {
+                limit++;
+                saturated = false;
+            }
+
+            // limit 이 늘어난 경우 두 명 이상 들어올 수 있으므로 모두 깨운다
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
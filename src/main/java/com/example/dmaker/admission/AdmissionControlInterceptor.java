@@ -0,0 +1,53 @@
+package com.example.dmaker.admission;
+
+import com.example.dmaker.exception.DMakerTooManyRequestsException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import static com.example.dmaker.exception.DMakerErrorCode.TOO_MANY_REQUESTS;
+
+// 쓰기 요청이 몰려도 읽기 요청이 커넥션 풀 대기열에 같이 묶이지 않도록 요청 종류별로 동시 처리 수를 제한한다
+// preHandle 에서 던진 예외는 DispatcherServlet 이 DMakerExceptionHandler 로 넘겨준다
+@RequiredArgsConstructor
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String LIMITER_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".limiter";
+    private static final String STARTED_AT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".startedAt";
+
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AdaptiveConcurrencyLimiter limiter = isRead(request) ? readLimiter : writeLimiter;
+
+        if (!limiter.tryAcquire()) {
+            throw new DMakerTooManyRequestsException(TOO_MANY_REQUESTS,
+                    TOO_MANY_REQUESTS.getMessage() + " (" + limiter.getName() + " limit: " + limiter.getLimit() + ")");
+        }
+
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(STARTED_AT_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        AdaptiveConcurrencyLimiter limiter = (AdaptiveConcurrencyLimiter) request.getAttribute(LIMITER_ATTRIBUTE);
+        if (limiter == null) {
+            return;
+        }
+
+        long startedAt = (Long) request.getAttribute(STARTED_AT_ATTRIBUTE);
+        limiter.release(System.nanoTime() - startedAt);
+    }
+
+    private boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod())
+                || HttpMethod.HEAD.matches(request.getMethod());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.dmaker.admission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// application.yml 의 dmaker.admission 설정
+// 읽기(GET)와 쓰기(POST / PUT / DELETE) 요청의 동시 처리 한도를 따로 둔다
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dmaker.admission")
+public class AdmissionControlProperties {
+
+    private Limit read = new Limit();
+    private Limit write = new Limit();
+
+    @Getter
+    @Setter
+    public static class Limit {
+        // 동시 처리 한도의 시작값, 하한, 상한. 한도는 응답 시간을 보고 이 사이에서 움직인다
+        private int initialLimit = 10;
+        private int minLimit = 1;
+        private int maxLimit = 20;
+
+        // 한도가 찼을 때 기다릴 수 있는 요청 수와 최대 대기 시간
+        private int queueSize = 10;
+        private long queueTimeoutMillis = 50;
+
+        // 응답 시간의 이동 평균이 이보다 길어지면 한도를 줄인다
+        private long targetLatencyMillis = 200;
+    }
+}
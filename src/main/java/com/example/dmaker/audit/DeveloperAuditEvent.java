@@ -0,0 +1,23 @@
+package com.example.dmaker.audit;
+
+import com.example.dmaker.code.AuditAction;
+import com.example.dmaker.dto.DeveloperDetailDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 요청 스레드에서 만들어서 큐에 넣는 변경 이력. JSON 변환과 저장은 writer 스레드에서 한다
+@Getter
+@Builder
+@AllArgsConstructor
+public class DeveloperAuditEvent {
+
+    private final String memberId;
+    private final AuditAction action;
+    private final String changedBy;
+    private final DeveloperDetailDto before;
+    private final DeveloperDetailDto after;
+    private final LocalDateTime changedAt;
+}
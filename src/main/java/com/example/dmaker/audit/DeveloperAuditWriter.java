@@ -0,0 +1,336 @@
+package com.example.dmaker.audit;
+
+import com.example.dmaker.code.AuditAction;
+import com.example.dmaker.dto.DeveloperDetailDto;
+import com.example.dmaker.entity.DeveloperAudit;
+import com.example.dmaker.repository.DeveloperAuditRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+// 개발자 변경 이력을 쓰기 트랜잭션 안에서 바로 insert 하지 않고, 큐에 넣어두었다가 백그라운드 스레드가 모아서 저장한다
+// 큐는 ConcurrentLinkedQueue + 크기 카운터로 lock 없이 용량을 제한한다
+// 큐가 가득 찬 채로 offer-timeout 이 지나면 호출한 스레드가 직접 저장한다 (back-pressure, 이력은 버리지 않는다)
+// 저장에 실패한 이력은 backoff 를 두고 retry-attempts 번까지 다시 저장하고, 그래도 실패하면 error 로그로 남긴다
+// 애플리케이션이 종료될 때는 큐에 남은 이력을 모두 저장한 뒤에 끝난다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeveloperAuditWriter {
+
+    private static final String ACTOR_HEADER = "X-DMaker-Actor";
+    public static final String SYSTEM_ACTOR = "system";
+
+    private static final long RETRY_INITIAL_BACKOFF_MILLIS = 100;
+    private static final long RETRY_MAX_BACKOFF_MILLIS = 5_000;
+    // 종료 중에는 shutdown-timeout 안에 끝나도록 짧은 간격으로 몇 번만 다시 시도한다
+    private static final int SHUTDOWN_RETRY_ATTEMPTS = 3;
+    private static final long SHUTDOWN_RETRY_BACKOFF_MILLIS = 100;
+
+    private final DeveloperAuditRepository developerAuditRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentLinkedQueue<DeveloperAuditEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${dmaker.audit.capacity:10000}")
+    private int capacity;
+
+    @Value("${dmaker.audit.batch-size:100}")
+    private int batchSize;
+
+    @Value("${dmaker.audit.flush-interval-millis:200}")
+    private long flushIntervalMillis;
+
+    @Value("${dmaker.audit.offer-timeout-millis:50}")
+    private long offerTimeoutMillis;
+
+    @Value("${dmaker.audit.shutdown-timeout-millis:10000}")
+    private long shutdownTimeoutMillis;
+
+    @Value("${dmaker.audit.retry-attempts:8}")
+    private int retryAttempts;
+
+    private TransactionTemplate transactionTemplate;
+    private Thread writerThread;
+
+    @PostConstruct
+    public void start() {
+        // afterCommit 에서 직접 저장하는 경우에도 원래 트랜잭션에 섞이지 않도록 항상 새 트랜잭션을 연다
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        running.set(true);
+        writerThread = new Thread(this::runWriter, "developer-audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running.set(false);
+        LockSupport.unpark(writerThread);
+        writerThread.join(shutdownTimeoutMillis);
+
+        if (writerThread.isAlive()) {
+            log.warn("developer audit writer did not finish in {} ms. remaining: {}", shutdownTimeoutMillis, queued.get());
+        }
+    }
+
+    // 커밋이 끝난 뒤 요청 스레드에서 호출된다
+    // 변경은 이미 커밋되었으므로 이력 저장에 실패해도 예외를 던지지 않는다
+    public void record(AuditAction action,
+                       String memberId,
+                       DeveloperDetailDto before,
+                       DeveloperDetailDto after) {
+        record(action, memberId, before, after, currentActor());
+    }
+
+    public void record(AuditAction action,
+                       String memberId,
+                       DeveloperDetailDto before,
+                       DeveloperDetailDto after,
+                       String changedBy) {
+        DeveloperAuditEvent event = DeveloperAuditEvent.builder()
+                .memberId(memberId)
+                .action(action)
+                .changedBy(changedBy)
+                .before(before)
+                .after(after)
+                .changedAt(LocalDateTime.now())
+                .build();
+
+        if (running.get() && offer(event)) {
+            // 큐에 넣는 사이에 종료가 시작되면 writer 의 마지막 drain 이 이미 끝났을 수 있다
+            // 큐에서 다시 꺼낸 경우에만 직접 저장하고, 꺼내지 못했다면 writer 가 가져간 것이다
+            if (running.get() || !reclaim(event)) {
+                return;
+            }
+        } else {
+            log.warn("developer audit queue is full or writer is stopped. writing in caller thread. memberId: {}", memberId);
+        }
+
+        writeInCallerThread(event);
+    }
+
+    private void writeInCallerThread(DeveloperAuditEvent event) {
+        if (write(Collections.singletonList(event)).isEmpty()) {
+            return;
+        }
+
+        // 용량 안에서만 큐에 넣어서 writer 가 다시 시도하게 한다. 큐에 넣지 못하면 error 로그로 남긴다
+        if (running.get() && offer(event)) {
+            LockSupport.unpark(writerThread);
+            if (running.get() || !reclaim(event)) {
+                return;
+            }
+        }
+        logDropped(event, 1);
+    }
+
+    private boolean reclaim(DeveloperAuditEvent event) {
+        if (!queue.remove(event)) {
+            return false;
+        }
+        queued.decrementAndGet();
+        return true;
+    }
+
+    private boolean offer(DeveloperAuditEvent event) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+
+        while (true) {
+            int size = queued.get();
+            if (size < capacity) {
+                if (queued.compareAndSet(size, size + 1)) {
+                    queue.offer(event);
+                    // 한 번에 저장할 만큼 쌓였으면 기다리지 말고 writer 를 깨운다
+                    if (size + 1 >= batchSize) {
+                        LockSupport.unpark(writerThread);
+                    }
+                    return true;
+                }
+                continue;
+            }
+
+            LockSupport.unpark(writerThread);
+            if (!running.get() || System.nanoTime() >= deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+    }
+
+    private void runWriter() {
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+
+        while (running.get()) {
+            if (drain() < batchSize) {
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        }
+
+        // 종료 중에는 큐가 빌 때까지 저장한다
+        while (drain() > 0) {
+            // continue
+        }
+        log.info("developer audit writer stopped");
+    }
+
+    private int drain() {
+        List<DeveloperAuditEvent> batch = new ArrayList<>(batchSize);
+        DeveloperAuditEvent event;
+        while (batch.size() < batchSize && (event = queue.poll()) != null) {
+            batch.add(event);
+        }
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        writeWithRetry(batch);
+        // 저장이 끝난 뒤에 줄여야 재시도 중에 쌓이는 이력까지 용량에 포함된다
+        queued.addAndGet(-batch.size());
+        return batch.size();
+    }
+
+    private void writeWithRetry(List<DeveloperAuditEvent> batch) {
+        List<DeveloperAuditEvent> pending = batch;
+        long backoffMillis = RETRY_INITIAL_BACKOFF_MILLIS;
+
+        for (int attempt = 1; ; attempt++) {
+            pending = write(pending);
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            int maxAttempts = running.get() ? retryAttempts : SHUTDOWN_RETRY_ATTEMPTS;
+            if (attempt >= maxAttempts) {
+                for (DeveloperAuditEvent event : pending) {
+                    logDropped(event, attempt);
+                }
+                return;
+            }
+
+            long waitMillis = running.get() ? backoffMillis : SHUTDOWN_RETRY_BACKOFF_MILLIS;
+            log.warn("retrying {} developer audits in {} ms. attempt: {}", pending.size(), waitMillis, attempt);
+            backoff(waitMillis);
+            backoffMillis = Math.min(backoffMillis * 2, RETRY_MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    // 요청 스레드가 writer 를 자주 깨우므로 parkNanos 가 일찍 돌아와도 정해진 시간만큼 쉰다
+    // 쉬는 중에 종료가 시작되면 SHUTDOWN_RETRY_BACKOFF_MILLIS 까지만 쉰다
+    private void backoff(long millis) {
+        long startedAt = System.nanoTime();
+        long waitNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+        long shutdownWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.min(millis, SHUTDOWN_RETRY_BACKOFF_MILLIS));
+
+        while (true) {
+            long remaining = startedAt + (running.get() ? waitNanos : shutdownWaitNanos) - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    // 저장하지 못한 이력을 돌려준다. 한 번에 저장하다 실패하면 한 건씩 저장해서 문제가 된 이력만 남긴다
+    private List<DeveloperAuditEvent> write(List<DeveloperAuditEvent> events) {
+        try {
+            save(events);
+            return Collections.emptyList();
+        } catch (RuntimeException e) {
+            log.warn("failed to write {} developer audits", events.size(), e);
+            if (events.size() == 1) {
+                return events;
+            }
+        }
+
+        List<DeveloperAuditEvent> failed = new ArrayList<>();
+        for (DeveloperAuditEvent event : events) {
+            try {
+                save(Collections.singletonList(event));
+            } catch (RuntimeException e) {
+                failed.add(event);
+            }
+        }
+        return failed;
+    }
+
+    private void save(List<DeveloperAuditEvent> events) {
+        List<DeveloperAudit> audits = events.stream()
+                .map(this::toEntity)
+                .collect(Collectors.toList());
+
+        transactionTemplate.executeWithoutResult(status -> developerAuditRepository.saveAll(audits));
+    }
+
+    // 로그만으로도 이력을 복구할 수 있도록 내용을 남긴다
+    private void logDropped(DeveloperAuditEvent event, int attempts) {
+        log.error("dropped developer audit after {} attempts. memberId: {}, action: {}, changedBy: {}, changedAt: {}, before: {}, after: {}",
+                attempts, event.getMemberId(), event.getAction(), event.getChangedBy(), event.getChangedAt(),
+                toJson(event.getBefore()), toJson(event.getAfter()));
+    }
+
+    private DeveloperAudit toEntity(DeveloperAuditEvent event) {
+        return DeveloperAudit.builder()
+                .memberId(event.getMemberId())
+                .action(event.getAction())
+                .changedBy(event.getChangedBy())
+                .beforeSnapshot(toJson(event.getBefore()))
+                .afterSnapshot(toJson(event.getAfter()))
+                .changedAt(event.getChangedAt())
+                .build();
+    }
+
+    private String toJson(DeveloperDetailDto snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+
+        // 스냅샷 하나를 변환하지 못했다고 이력까지 버리지는 않는다
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            log.error("failed to serialize developer snapshot. memberId: {}", snapshot.getMemberId(), e);
+            return null;
+        }
+    }
+
+    // 인증이 없으므로 요청 헤더로 변경한 사람을 받는다. 요청 밖(배치 등)에서는 system
+    private String currentActor() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            String actor = ((ServletRequestAttributes) attributes).getRequest().getHeader(ACTOR_HEADER);
+            if (actor != null && !actor.isBlank()) {
+                return actor;
+            }
+        }
+        return SYSTEM_ACTOR;
+    }
+}
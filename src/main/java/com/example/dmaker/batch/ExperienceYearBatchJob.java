@@ -0,0 +1,274 @@
+package com.example.dmaker.batch;
+
+import com.example.dmaker.audit.DeveloperAuditWriter;
+import com.example.dmaker.code.AuditAction;
+import com.example.dmaker.code.StatusCode;
+import com.example.dmaker.dto.DeveloperDetailDto;
+import com.example.dmaker.dto.ExperienceYearBatchResult;
+import com.example.dmaker.entity.BatchCheckpoint;
+import com.example.dmaker.entity.Developer;
+import com.example.dmaker.exception.DMakerException;
+import com.example.dmaker.index.DeveloperBitmapIndex;
+import com.example.dmaker.repository.BatchCheckpointRepository;
+import com.example.dmaker.repository.DeveloperRepository;
+import com.example.dmaker.type.DeveloperLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.example.dmaker.exception.DMakerErrorCode.BATCH_ALREADY_RUNNING;
+import static com.example.dmaker.exception.DMakerErrorCode.BATCH_FAILED;
+
+// 매년 1월, 재직 중인 개발자의 연차를 1 올리고 레벨 규칙에 맞지 않게 된 개발자를 승급시킨다
+// editDeveloper 를 한 명씩 호출하는 대신, id 구간(청크) 단위로 set-based update 를 한다
+// 청크마다 트랜잭션이 따로 있어서 하나의 거대한 트랜잭션을 잡고 있지 않는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExperienceYearBatchJob {
+
+    private static final String JOB_NAME = "experience-year";
+
+    private final DeveloperRepository developerRepository;
+    private final BatchCheckpointRepository batchCheckpointRepository;
+    private final DeveloperBitmapIndex developerBitmapIndex;
+    private final DeveloperAuditWriter developerAuditWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${dmaker.batch.experience-year.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${dmaker.batch.experience-year.threads:4}")
+    private int threads;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "experience-year-batch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    @Scheduled(cron = "${dmaker.batch.experience-year.cron:0 0 3 1 1 *}")
+    public void scheduledRun() {
+        run(LocalDate.now().getYear());
+    }
+
+    public ExperienceYearBatchResult run(int targetYear) {
+        if (!running.compareAndSet(false, true)) {
+            throw new DMakerException(BATCH_ALREADY_RUNNING);
+        }
+
+        try {
+            return execute(targetYear);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ExperienceYearBatchResult execute(int targetYear) {
+        // 같은 해의 체크포인트가 있으면 그 다음 id 부터 다시 시작한다
+        BatchCheckpoint checkpoint = batchCheckpointRepository.findById(JOB_NAME)
+                .filter(saved -> saved.getTargetYear() == targetYear)
+                .orElseGet(() -> BatchCheckpoint.builder()
+                        .jobName(JOB_NAME)
+                        .targetYear(targetYear)
+                        .lastProcessedId(0L)
+                        .build());
+
+        // 끝난 해를 다시 실행하면 마지막 id 뒤에 새로 들어온 개발자만 골라서 연차를 올리게 되므로 바로 돌려준다
+        if (checkpoint.isCompleted()) {
+            log.info("experience year batch already completed. targetYear: {}", targetYear);
+
+            return ExperienceYearBatchResult.builder()
+                    .targetYear(targetYear)
+                    .startedAfterId(checkpoint.getLastProcessedId())
+                    .lastProcessedId(checkpoint.getLastProcessedId())
+                    .chunkCount(0)
+                    .increasedCount(0)
+                    .promotedCount(0)
+                    .alreadyCompleted(true)
+                    .build();
+        }
+
+        long startedAfterId = checkpoint.getLastProcessedId();
+        long lastId = startedAfterId;
+        int chunkCount = 0;
+        int increasedCount = 0;
+        int promotedCount = 0;
+
+        log.info("experience year batch started. targetYear: {}, afterId: {}", targetYear, startedAfterId);
+
+        while (true) {
+            // keyset 으로 스레드 수만큼 청크 경계를 잡는다
+            List<ChunkRange> wave = new ArrayList<>();
+            while (wave.size() < threads) {
+                List<Long> ids = developerRepository.findIdsByStatusCodeAfter(
+                        StatusCode.EMPLOYED, lastId, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                lastId = ids.get(ids.size() - 1);
+                wave.add(new ChunkRange(ids.get(0), lastId));
+            }
+
+            if (wave.isEmpty()) {
+                break;
+            }
+
+            List<Future<ChunkResult>> futures = new ArrayList<>();
+            for (ChunkRange range : wave) {
+                futures.add(executor.submit(() -> processChunk(range, targetYear)));
+            }
+
+            // 청크 하나가 실패해도 같은 묶음의 나머지 청크가 모두 끝난 뒤에 예외를 던진다
+            // 그래야 running 이 풀린 뒤 재실행이 아직 돌고 있는 청크와 겹치지 않는다
+            DMakerException failure = null;
+            for (Future<ChunkResult> future : futures) {
+                try {
+                    ChunkResult result = await(future);
+                    increasedCount += result.getIncreasedCount();
+                    promotedCount += result.getPromotedCount();
+                } catch (DMakerException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            chunkCount += wave.size();
+
+            // 한 묶음의 청크가 모두 커밋된 뒤에만 체크포인트를 앞으로 옮긴다
+            // 중간에 실패해서 다시 돌더라도 experienceRecalculatedYear 때문에 연차가 두 번 오르지 않는다
+            checkpoint.setLastProcessedId(lastId);
+            checkpoint = batchCheckpointRepository.save(checkpoint);
+        }
+
+        checkpoint.setCompleted(true);
+        batchCheckpointRepository.save(checkpoint);
+
+        log.info("experience year batch finished. targetYear: {}, chunks: {}, increased: {}, promoted: {}",
+                targetYear, chunkCount, increasedCount, promotedCount);
+
+        return ExperienceYearBatchResult.builder()
+                .targetYear(targetYear)
+                .startedAfterId(startedAfterId)
+                .lastProcessedId(lastId)
+                .chunkCount(chunkCount)
+                .increasedCount(increasedCount)
+                .promotedCount(promotedCount)
+                .alreadyCompleted(false)
+                .build();
+    }
+
+    private ChunkResult processChunk(ChunkRange range, int targetYear) {
+        ChunkResult result = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+
+            // 승급 이력의 before 로 쓰기 위해 update 전의 값을 읽어둔다
+            Map<Long, DeveloperDetailDto> before = developerRepository.findByIdBetween(range.getFromId(), range.getToId())
+                    .stream().collect(Collectors.toMap(Developer::getId, DeveloperDetailDto::fromEntity));
+
+            int increased = developerRepository.increaseExperienceYear(
+                    range.getFromId(), range.getToId(), StatusCode.EMPLOYED, targetYear, now);
+
+            // JUNIOR -> JUNGNIOR 를 먼저 해야 연차가 많은 JUNIOR 도 SENIOR 까지 올라갈 수 있다
+            int promoted = developerRepository.promoteDeveloperLevel(
+                    range.getFromId(), range.getToId(), StatusCode.EMPLOYED,
+                    DeveloperLevel.JUNIOR, DeveloperLevel.JUNGNIOR, DeveloperLevel.JUNIOR.getMaxExperienceYears(), now);
+            promoted += developerRepository.promoteDeveloperLevel(
+                    range.getFromId(), range.getToId(), StatusCode.EMPLOYED,
+                    DeveloperLevel.JUNGNIOR, DeveloperLevel.SENIOR, DeveloperLevel.JUNGNIOR.getMaxExperienceYears(), now);
+
+            // 벌크 update 가 영속성 컨텍스트를 비우므로 update 된 값으로 다시 읽힌다
+            List<Developer> after = developerRepository.findByIdBetween(range.getFromId(), range.getToId());
+
+            return new ChunkResult(increased, promoted, before, after);
+        });
+
+        // 벌크 update 는 서비스를 거치지 않으므로 커밋된 뒤에 청크 구간을 다시 인덱싱하고 승급 이력을 남긴다
+        for (Developer developer : result.getAfter()) {
+            developerBitmapIndex.index(developer);
+
+            DeveloperDetailDto before = result.getBefore().get(developer.getId());
+            if (before != null && before.getDeveloperLevel() != developer.getDeveloperLevel()) {
+                developerAuditWriter.record(AuditAction.PROMOTE, developer.getMemberId(),
+                        before, DeveloperDetailDto.fromEntity(developer), DeveloperAuditWriter.SYSTEM_ACTOR);
+            }
+        }
+
+        return result;
+    }
+
+    private ChunkResult await(Future<ChunkResult> future) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    // 인터럽트가 와도 청크가 끝날 때까지는 기다리고, 인터럽트 상태는 마지막에 되돌려 놓는다
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            log.error("experience year batch chunk failed", e.getCause());
+            throw new DMakerException(BATCH_FAILED, e.getCause().getMessage());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ChunkRange {
+        private final Long fromId;
+        private final Long toId;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ChunkResult {
+        private final int increasedCount;
+        private final int promotedCount;
+        private final Map<Long, DeveloperDetailDto> before;
+        private final List<Developer> after;
+    }
+}
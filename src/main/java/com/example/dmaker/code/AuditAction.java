@@ -0,0 +1,16 @@
+package com.example.dmaker.code;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum AuditAction {
+
+    CREATE("생성"),
+    EDIT("수정"),
+    RETIRE("퇴직"),
+    PROMOTE("승급");
+
+    private final String description;
+}
@@ -0,0 +1,31 @@
+package com.example.dmaker.config;
+
+import com.example.dmaker.dto.DeveloperDetailDto;
+import com.example.dmaker.dto.DeveloperDto;
+import com.example.dmaker.type.DeveloperField;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // ?fields= 필터는 스프링이 만든 ObjectMapper 에만 mix-in 으로 붙인다
+    // DTO 클래스에 @JsonFilter 를 직접 달면 필터 provider 가 없는 ObjectMapper 로는 직렬화할 수 없게 된다
+    // 필터를 따로 걸지 않으면 모든 항목을 직렬화한다 (기본 응답, 변경 이력 스냅샷 등은 기존과 똑같이 나간다)
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer developerFieldFilter() {
+        return builder -> builder
+                .mixIn(DeveloperDto.class, DeveloperFieldFilterMixIn.class)
+                .mixIn(DeveloperDetailDto.class, DeveloperFieldFilterMixIn.class)
+                .filters(new SimpleFilterProvider()
+                        .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    @JsonFilter(DeveloperField.FILTER_ID)
+    interface DeveloperFieldFilterMixIn {
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.dmaker.config;
+
+import com.example.dmaker.admission.AdaptiveConcurrencyLimiter;
+import com.example.dmaker.admission.AdmissionControlInterceptor;
+import com.example.dmaker.admission.AdmissionControlProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlProperties admissionControlProperties;
+
+    // 배치 같은 관리용 API 는 제외하고 개발자 API 에만 적용한다
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionControlInterceptor(
+                        new AdaptiveConcurrencyLimiter("read", admissionControlProperties.getRead()),
+                        new AdaptiveConcurrencyLimiter("write", admissionControlProperties.getWrite())))
+                .addPathPatterns("/developers/**", "/developer/**", "/create-developer");
+    }
+}
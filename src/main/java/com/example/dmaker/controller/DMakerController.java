@@ -1,18 +1,20 @@
 package com.example.dmaker.controller;
 
+import com.example.dmaker.batch.ExperienceYearBatchJob;
 import com.example.dmaker.dto.*;
 import com.example.dmaker.exception.DMakerErrorCode;
-import com.example.dmaker.exception.DMakerException;
 import com.example.dmaker.service.DMakerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 
-import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 
 import static com.example.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
@@ -24,24 +26,63 @@ import static com.example.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
 @RequiredArgsConstructor
 public class DMakerController {
     private final DMakerService dMakerService;
+    private final ExperienceYearBatchJob experienceYearBatchJob;
 
     // API 응답으로 Entity (Developer) 를 그대로 내려주는 것은 안티 패턴
     // DTO 를 통해서 Entity 와 응답 내려주는 것을 서로 분리 해주는 것이 매우 좋은 방식이 된다.
+    // fields 를 주면 (ex. ?fields=memberId,developerLevel) 해당 항목만 조회해서 내려준다
+    @SparseFieldset
     @GetMapping("/developers")
-    public List<DeveloperDto> getAllDevelopers() {
-        log.info("GET /developers HTTP/1.1");
+    public List<DeveloperDto> getAllDevelopers(
+            @RequestParam(required = false) String fields
+    ) {
+        log.info("GET /developers HTTP/1.1 fields : {}", fields);
+
+        if (fields == null) {
+            return dMakerService.getAllEmployedDevelopers();
+        }
+        return dMakerService.getAllEmployedDevelopers(fields);
+    }
+
+    // 레벨 / 스킬 / 상태 조합 필터는 비트맵 인덱스로 계산한다
+    @GetMapping("/developers/search")
+    public List<DeveloperDto> searchDevelopers(DeveloperSearchCondition condition) {
+        log.info("GET /developers/search HTTP/1.1 condition : {}", condition);
 
-        return dMakerService.getAllEmployedDevelopers();
+        return dMakerService.searchDevelopers(condition);
     }
 
+    @GetMapping("/developers/count")
+    public long countDevelopers(DeveloperSearchCondition condition) {
+        log.info("GET /developers/count HTTP/1.1 condition : {}", condition);
+
+        return dMakerService.countDevelopers(condition);
+    }
+
+    @SparseFieldset
     @GetMapping("/developer/{memberId}")
     public DeveloperDetailDto getDeveloperDetail(
-            @PathVariable String memberId
+            @PathVariable String memberId,
+            @RequestParam(required = false) String fields
     ) {
         log.info("GET /developers HTTP/1.1");
 
-        return dMakerService.getDeveloperDetail(memberId);
+        if (fields == null) {
+            return dMakerService.getDeveloperDetail(memberId);
+        }
+        return dMakerService.getDeveloperDetail(memberId, fields);
+
+    }
+
+    // 개발자의 생성 / 수정 / 퇴직 이력. ?page=0&size=20
+    @GetMapping("/developer/{memberId}/audits")
+    public Page<DeveloperAuditDto> getDeveloperAudits(
+            @PathVariable String memberId,
+            @PageableDefault(size = 20) Pageable pageable
+    ) {
+        log.info("GET /developer/{}/audits HTTP/1.1", memberId);
 
+        return dMakerService.getDeveloperAudits(memberId, pageable);
     }
 
     @PostMapping("/create-developer")
@@ -69,16 +110,13 @@ public class DMakerController {
         return dMakerService.deleteDeveloper(memberId);
     }
 
-    @ResponseStatus(value = HttpStatus.CONFLICT)
-    @ExceptionHandler(DMakerException.class)
-    public DMakerErrorResponse handleException(DMakerException e,
-                                               HttpServletRequest request) {
-        log.error("errorCode: {}, url: {}, message: {}", e.getDMakerErrorCode(), request.getRequestURI(), e.getDetailMessage());
-
-        return DMakerErrorResponse.builder()
-                .errorCode(e.getDMakerErrorCode())
-                .errorMessage(e.getDetailMessage())
-                .build();
+    // 연차 일괄 증가 배치를 수동으로 실행한다. targetYear 가 없으면 올해로 실행한다
+    @PostMapping("/batch/experience-year")
+    public ExperienceYearBatchResult runExperienceYearBatch(
+            @RequestParam(required = false) Integer targetYear
+    ) {
+        log.info("POST /batch/experience-year HTTP/1.1 targetYear : {}", targetYear);
 
+        return experienceYearBatchJob.run(targetYear != null ? targetYear : LocalDate.now().getYear());
     }
 }
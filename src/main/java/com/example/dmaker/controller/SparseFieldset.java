@@ -0,0 +1,12 @@
+package com.example.dmaker.controller;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// ?fields= 를 지원하는 API 에 붙인다. 응답 JSON 에는 요청한 field 만 남는다
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SparseFieldset {
+}
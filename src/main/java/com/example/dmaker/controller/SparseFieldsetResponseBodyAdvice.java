@@ -0,0 +1,55 @@
+package com.example.dmaker.controller;
+
+import com.example.dmaker.type.DeveloperField;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// @SparseFieldset API 에 ?fields= 가 있으면 요청한 field 만 직렬화하도록 Jackson 필터를 건다
+// 요청했지만 값이 null 인 항목은 null 로 그대로 내려간다
+@RestControllerAdvice
+public class SparseFieldsetResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    private static final String FIELDS_PARAMETER = "fields";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return super.supports(returnType, converterType)
+                && returnType.hasMethodAnnotation(SparseFieldset.class);
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer,
+                                           MediaType contentType,
+                                           MethodParameter returnType,
+                                           ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest)) {
+            return;
+        }
+
+        String fields = ((ServletServerHttpRequest) request).getServletRequest().getParameter(FIELDS_PARAMETER);
+        if (fields == null) {
+            return;
+        }
+
+        // 허용 여부는 서비스에서 이미 검사했으므로 여기서는 전체 field 기준으로 이름만 뽑는다
+        Set<String> fieldNames = DeveloperField.parse(fields, DeveloperField.DETAIL_FIELDS)
+                .stream().map(DeveloperField::getFieldName)
+                .collect(Collectors.toSet());
+
+        bodyContainer.setFilters(new SimpleFilterProvider()
+                .addFilter(DeveloperField.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fieldNames)));
+    }
+}
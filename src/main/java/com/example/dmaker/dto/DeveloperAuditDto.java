@@ -0,0 +1,40 @@
+package com.example.dmaker.dto;
+
+import com.example.dmaker.code.AuditAction;
+import com.example.dmaker.entity.DeveloperAudit;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperAuditDto {
+
+    private String memberId;
+    private AuditAction action;
+    private String changedBy;
+
+    // 저장된 JSON 문자열을 그대로 객체로 내려준다
+    @JsonRawValue
+    private String beforeSnapshot;
+
+    @JsonRawValue
+    private String afterSnapshot;
+
+    private LocalDateTime changedAt;
+
+    public static DeveloperAuditDto fromEntity(DeveloperAudit developerAudit) {
+        return DeveloperAuditDto.builder()
+                .memberId(developerAudit.getMemberId())
+                .action(developerAudit.getAction())
+                .changedBy(developerAudit.getChangedBy())
+                .beforeSnapshot(developerAudit.getBeforeSnapshot())
+                .afterSnapshot(developerAudit.getAfterSnapshot())
+                .changedAt(developerAudit.getChangedAt())
+                .build();
+    }
+}
@@ -2,15 +2,20 @@ package com.example.dmaker.dto;
 
 import com.example.dmaker.code.StatusCode;
 import com.example.dmaker.entity.Developer;
+import com.example.dmaker.type.DeveloperField;
 import com.example.dmaker.type.DeveloperLevel;
 import com.example.dmaker.type.DeveloperSkillType;
 import lombok.*;
 
+import javax.persistence.Tuple;
+import java.util.Set;
+
+// ?fields= 로 요청한 경우에만 SparseFieldsetResponseBodyAdvice 가 필터를 걸고, 그 외에는 모든 항목이 직렬화된다
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class DeveloperDetailDto {
 
     private DeveloperLevel developerLevel;
@@ -32,4 +37,38 @@ public class DeveloperDetailDto {
                 .age(developer.getAge())
                 .build();
     }
+
+    // 요청한 field 만 채운다
+    public static DeveloperDetailDto fromTuple(Tuple tuple, Set<DeveloperField> fields) {
+        DeveloperDetailDtoBuilder builder = DeveloperDetailDto.builder();
+
+        for (DeveloperField field : fields) {
+            String fieldName = field.getFieldName();
+            switch (field) {
+                case DEVELOPER_LEVEL:
+                    builder.developerLevel(tuple.get(fieldName, DeveloperLevel.class));
+                    break;
+                case DEVELOPER_SKILL_TYPE:
+                    builder.developerSkillType(tuple.get(fieldName, DeveloperSkillType.class));
+                    break;
+                case EXPERIENCE_YEAR:
+                    builder.experienceYear(tuple.get(fieldName, Integer.class));
+                    break;
+                case MEMBER_ID:
+                    builder.memberId(tuple.get(fieldName, String.class));
+                    break;
+                case STATUS_CODE:
+                    builder.statusCode(tuple.get(fieldName, StatusCode.class));
+                    break;
+                case NAME:
+                    builder.name(tuple.get(fieldName, String.class));
+                    break;
+                case AGE:
+                    builder.age(tuple.get(fieldName, Integer.class));
+                    break;
+            }
+        }
+
+        return builder.build();
+    }
 }
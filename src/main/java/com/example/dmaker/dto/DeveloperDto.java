@@ -2,10 +2,14 @@ package com.example.dmaker.dto;
 
 
 import com.example.dmaker.entity.Developer;
+import com.example.dmaker.type.DeveloperField;
 import com.example.dmaker.type.DeveloperLevel;
 import com.example.dmaker.type.DeveloperSkillType;
 import lombok.*;
 
+import javax.persistence.Tuple;
+import java.util.Set;
+
 // 응답으로 내려줄 DTO
 @Getter
 @Setter
@@ -25,4 +29,28 @@ public class DeveloperDto {
                 .memberId(developer.getMemberId())
                 .build();
     }
+
+    // 요청한 field 만 채운다. 목록 API 는 DeveloperField.LIST_FIELDS 안에서만 요청할 수 있다
+    public static DeveloperDto fromTuple(Tuple tuple, Set<DeveloperField> fields) {
+        DeveloperDtoBuilder builder = DeveloperDto.builder();
+
+        for (DeveloperField field : fields) {
+            String fieldName = field.getFieldName();
+            switch (field) {
+                case DEVELOPER_LEVEL:
+                    builder.developerLevel(tuple.get(fieldName, DeveloperLevel.class));
+                    break;
+                case DEVELOPER_SKILL_TYPE:
+                    builder.developerSkillType(tuple.get(fieldName, DeveloperSkillType.class));
+                    break;
+                case MEMBER_ID:
+                    builder.memberId(tuple.get(fieldName, String.class));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        return builder.build();
+    }
 }
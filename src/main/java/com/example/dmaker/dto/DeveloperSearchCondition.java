@@ -0,0 +1,24 @@
+package com.example.dmaker.dto;
+
+import com.example.dmaker.code.StatusCode;
+import com.example.dmaker.type.DeveloperLevel;
+import com.example.dmaker.type.DeveloperSkillType;
+import lombok.*;
+
+import java.util.List;
+
+// 같은 항목 안의 값들은 OR, 항목끼리는 AND 로 묶인다
+// ex) statusCodes=EMPLOYED&developerLevels=SENIOR&developerLevels=JUNGNIOR&developerSkillTypes=BACK_END
+// 값을 주지 않은 항목은 조건 없이 전체가 된다
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class DeveloperSearchCondition {
+
+    private List<StatusCode> statusCodes;
+    private List<DeveloperLevel> developerLevels;
+    private List<DeveloperSkillType> developerSkillTypes;
+}
@@ -0,0 +1,21 @@
+package com.example.dmaker.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ExperienceYearBatchResult {
+
+    private Integer targetYear;
+    private Long startedAfterId;
+    private Long lastProcessedId;
+    private Integer chunkCount;
+    private Integer increasedCount;
+    private Integer promotedCount;
+
+    // 이미 끝난 해로 다시 실행해서 아무것도 하지 않은 경우 true
+    private Boolean alreadyCompleted;
+}
@@ -0,0 +1,39 @@
+package com.example.dmaker.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+// 배치가 중간에 멈췄을 때 어디서부터 다시 시작할지 기록해둔다
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+public class BatchCheckpoint {
+
+    @Id
+    private String jobName;
+
+    private Integer targetYear;
+
+    // 이 id 까지의 청크는 모두 커밋이 끝났다
+    private Long lastProcessedId;
+
+    // targetYear 의 배치가 끝까지 돌았다. 같은 해로 다시 실행하면 아무것도 하지 않는다
+    private boolean completed;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+}
@@ -41,6 +41,14 @@ public class Developer {
     @Enumerated(EnumType.STRING)
     private StatusCode statusCode;
 
+    // 수정 / 퇴직 / 배치 update 마다 1 씩 올라간다. 비트맵 인덱스는 이 값으로 늦게 도착한 옛 변경을 걸러낸다
+    // 같은 개발자를 동시에 수정하면 나중에 커밋하는 쪽이 ObjectOptimisticLockingFailureException 으로 실패한다
+    @Version
+    private Long version;
+
+    // 연차 일괄 증가 배치가 마지막으로 반영된 연도. 같은 해에 배치가 다시 돌아도 두 번 증가하지 않게 한다
+    private Integer experienceRecalculatedYear;
+
     // 자동으로 생성 시점과 수정 시점을 넣어주기 위해서는 main 에서 EnableJpaAuditing 을 넣어준다
     @CreatedDate
     private LocalDateTime createdAt;
@@ -0,0 +1,47 @@
+package com.example.dmaker.entity;
+
+import com.example.dmaker.code.AuditAction;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_developer_audit_member_id", columnList = "memberId"))
+public class DeveloperAudit {
+
+    // IDENTITY 는 insert 마다 id 를 받아와야 해서 JDBC batch insert 가 되지 않는다
+    // 그래서 sequence 를 미리 50 개씩 할당받아 쓴다
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_audit_seq")
+    @SequenceGenerator(name = "developer_audit_seq", sequenceName = "developer_audit_seq", allocationSize = 50)
+    protected Long id;
+
+    private String memberId;
+
+    @Enumerated(EnumType.STRING)
+    private AuditAction action;
+
+    private String changedBy;
+
+    // 변경 전 / 후의 DeveloperDetailDto 를 JSON 으로 저장한다. 생성은 before 가 없다
+    @Column(length = 2000)
+    private String beforeSnapshot;
+
+    @Column(length = 2000)
+    private String afterSnapshot;
+
+    // 실제로 변경이 커밋된 시각. 저장은 나중에 모아서 하므로 createdAt 과 다를 수 있다
+    private LocalDateTime changedAt;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
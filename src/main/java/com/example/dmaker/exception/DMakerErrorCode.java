@@ -11,6 +11,10 @@ public enum DMakerErrorCode {
     NO_DEVELOPER("해당되는 개발자가 없습니다"),
     DUPLICATED_MEMBER_ID("MemberId가 중복되는 개발자가 있습니다"),
     LEVEL_EXPERIENCE_YEARS_NOT_MATCHED("개발자 레벨과 연차가 맞지 않습니다"),
+    BATCH_ALREADY_RUNNING("이미 실행 중인 배치 작업이 있습니다"),
+    BATCH_FAILED("배치 작업이 실패했습니다"),
+    TOO_MANY_REQUESTS("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
+    CONCURRENT_MODIFICATION("다른 요청이 먼저 개발자 정보를 변경했습니다. 다시 시도해주세요"),
 
     // 예외의 예외 같은 느낌 진짜 알 수 없는 예외가 발생했을 때 사용할 것
     INTERNAL_SERVER_ERROR("서버에 오류가 발생했습니다"),
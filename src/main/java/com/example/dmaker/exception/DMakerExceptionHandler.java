@@ -3,6 +3,7 @@ package com.example.dmaker.exception;
 import com.example.dmaker.dto.DMakerErrorResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import javax.servlet.http.HttpServletRequest;
 
+import static com.example.dmaker.exception.DMakerErrorCode.CONCURRENT_MODIFICATION;
 import static com.example.dmaker.exception.DMakerErrorCode.INTERNAL_SERVER_ERROR;
 import static com.example.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
 
@@ -21,6 +23,33 @@ import static com.example.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
 @RestControllerAdvice
 public class DMakerExceptionHandler {
 
+    // 동시 처리 한도를 넘은 요청은 빠르게 429 로 돌려보낸다
+    // DMakerException 의 하위 타입이라 더 구체적인 이 핸들러가 먼저 선택된다
+    @ResponseStatus(value = HttpStatus.TOO_MANY_REQUESTS)
+    @ExceptionHandler(DMakerTooManyRequestsException.class)
+    public DMakerErrorResponse handleTooManyRequests(DMakerTooManyRequestsException e,
+                                                     HttpServletRequest request) {
+        log.warn("errorCode: {}, url: {}, message: {}", e.getDMakerErrorCode(), request.getRequestURI(), e.getDetailMessage());
+
+        return DMakerErrorResponse.builder()
+                .errorCode(e.getDMakerErrorCode())
+                .errorMessage(e.getDetailMessage())
+                .build();
+    }
+
+    // 같은 개발자를 동시에 수정해서 version 이 맞지 않는 경우. 다시 조회해서 수정하면 된다
+    @ResponseStatus(value = HttpStatus.CONFLICT)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public DMakerErrorResponse handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e,
+                                                             HttpServletRequest request) {
+        log.warn("errorCode: {}, url: {}, message: {}", CONCURRENT_MODIFICATION, request.getRequestURI(), e.getMessage());
+
+        return DMakerErrorResponse.builder()
+                .errorCode(CONCURRENT_MODIFICATION)
+                .errorMessage(CONCURRENT_MODIFICATION.getMessage())
+                .build();
+    }
+
     @ResponseStatus(value = HttpStatus.CONFLICT)
     @ExceptionHandler(DMakerException.class)
     public DMakerErrorResponse handleException(DMakerException e,
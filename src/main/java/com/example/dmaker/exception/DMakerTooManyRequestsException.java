@@ -0,0 +1,9 @@
+package com.example.dmaker.exception;
+
+// 동시 처리 한도를 넘어서 거절된 요청. DMakerExceptionHandler 에서 409 가 아니라 429 로 응답한다
+public class DMakerTooManyRequestsException extends DMakerException {
+
+    public DMakerTooManyRequestsException(DMakerErrorCode errorCode, String detailMessage) {
+        super(errorCode, detailMessage);
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.dmaker.index;
+
+import com.example.dmaker.code.StatusCode;
+import com.example.dmaker.dto.DeveloperSearchCondition;
+import com.example.dmaker.entity.Developer;
+import com.example.dmaker.repository.DeveloperIndexRow;
+import com.example.dmaker.repository.DeveloperRepository;
+import com.example.dmaker.type.DeveloperLevel;
+import com.example.dmaker.type.DeveloperSkillType;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+// 필터링에 쓰이는 컬럼(DeveloperLevel, DeveloperSkillType, StatusCode)은 값이 몇 개 안 되는 enum 이다
+// 그래서 enum 값마다 BitSet 하나씩을 두고, 개발자마다 0 부터 촘촘하게 매긴 번호(ordinal)의 비트를 켜둔다
+// 필터는 BitSet 의 AND / OR 로 계산되고, 개수는 cardinality 로 바로 나온다
+// DB 에서는 조건에 맞는 id 의 row 만 가져오면 된다
+// 개발자마다 반영된 version 을 기억해두고, 커밋 순서와 다르게 늦게 도착한 옛 값은 무시한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeveloperBitmapIndex implements SmartInitializingSingleton {
+
+    private static final int REBUILD_CHUNK_SIZE = 4096;
+
+    private final DeveloperRepository developerRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Developer.id -> ordinal, ordinal -> Developer.id / Developer.version
+    private LongIntHashMap ordinalById = new LongIntHashMap(1024);
+    private long[] idByOrdinal = new long[1024];
+    private long[] versionByOrdinal = new long[1024];
+    private int size;
+
+    private Bitmaps bitmaps = new Bitmaps();
+
+    // rebuild 중에 들어온 변경. DB 를 읽은 뒤의 변경이 오래된 스냅샷에 덮이지 않도록 교체 직후에 다시 반영한다
+    // rebuild 는 기존 비트맵으로 조회를 계속 받으면서 실행 중에도 다시 돌릴 수 있다
+    private List<IndexEntry> pendingWrites;
+
+    // 모든 singleton 이 만들어진 뒤, 웹 서버가 요청을 받기 전에 인덱스를 만든다
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingWrites = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<DeveloperIndexRow> rows = developerRepository.findAllProjectedBy();
+
+        long[] newIdByOrdinal = new long[Math.max(rows.size(), 1024)];
+        long[] newVersionByOrdinal = new long[newIdByOrdinal.length];
+        LongIntHashMap newOrdinalById = new LongIntHashMap(rows.size());
+        for (int ordinal = 0; ordinal < rows.size(); ordinal++) {
+            DeveloperIndexRow row = rows.get(ordinal);
+            newIdByOrdinal[ordinal] = row.getId();
+            newVersionByOrdinal[ordinal] = versionOf(row.getVersion());
+            newOrdinalById.put(row.getId(), ordinal);
+        }
+
+        // ordinal 구간별로 BitSet 을 병렬로 만든 뒤 OR 로 합친다
+        int chunks = (rows.size() + REBUILD_CHUNK_SIZE - 1) / REBUILD_CHUNK_SIZE;
+        Bitmaps newBitmaps = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> buildChunk(rows,
+                        chunk * REBUILD_CHUNK_SIZE,
+                        Math.min(rows.size(), (chunk + 1) * REBUILD_CHUNK_SIZE)))
+                .reduce(Bitmaps::or)
+                .orElseGet(Bitmaps::new);
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            this.ordinalById = newOrdinalById;
+            this.idByOrdinal = newIdByOrdinal;
+            this.versionByOrdinal = newVersionByOrdinal;
+            this.size = rows.size();
+            this.bitmaps = newBitmaps;
+
+            // DB 를 읽기 전에 커밋된 변경은 version 이 같거나 낮아서 그대로 넘어간다
+            replayed = pendingWrites.size();
+            pendingWrites.forEach(this::apply);
+            pendingWrites = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("developer bitmap index rebuilt. size: {}, replayed: {}", rows.size(), replayed);
+    }
+
+    private Bitmaps buildChunk(List<DeveloperIndexRow> rows, int from, int to) {
+        Bitmaps chunk = new Bitmaps();
+        for (int ordinal = from; ordinal < to; ordinal++) {
+            DeveloperIndexRow row = rows.get(ordinal);
+            chunk.set(ordinal, row.getDeveloperLevel(), row.getDeveloperSkillType(), row.getStatusCode());
+        }
+        return chunk;
+    }
+
+    // 서비스의 쓰기 메소드(생성, 수정, 퇴직)와 배치 청크가 커밋된 뒤에 호출된다
+    // afterCommit 은 커밋 순서대로 불린다는 보장이 없으므로 version 으로 순서를 맞춘다
+    public void index(Developer developer) {
+        IndexEntry entry = new IndexEntry(developer.getId(),
+                versionOf(developer.getVersion()),
+                developer.getDeveloperLevel(),
+                developer.getDeveloperSkillType(),
+                developer.getStatusCode());
+
+        lock.writeLock().lock();
+        try {
+            apply(entry);
+            if (pendingWrites != null) {
+                pendingWrites.add(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(IndexEntry entry) {
+        int ordinal = ordinalById.get(entry.id);
+        if (ordinal == LongIntHashMap.NO_VALUE) {
+            ordinal = append(entry.id);
+        } else if (entry.version < versionByOrdinal[ordinal]) {
+            return;
+        }
+        versionByOrdinal[ordinal] = entry.version;
+        bitmaps.set(ordinal, entry.developerLevel, entry.developerSkillType, entry.statusCode);
+    }
+
+    private int append(long id) {
+        if (size == idByOrdinal.length) {
+            idByOrdinal = Arrays.copyOf(idByOrdinal, size * 2);
+            versionByOrdinal = Arrays.copyOf(versionByOrdinal, size * 2);
+        }
+        idByOrdinal[size] = id;
+        ordinalById.put(id, size);
+        return size++;
+    }
+
+    private static long versionOf(Long version) {
+        return version == null ? 0L : version;
+    }
+
+    public List<Long> findIds(DeveloperSearchCondition condition) {
+        lock.readLock().lock();
+        try {
+            BitSet matched = match(condition);
+            List<Long> ids = new ArrayList<>(matched.cardinality());
+            for (int ordinal = matched.nextSetBit(0); ordinal >= 0; ordinal = matched.nextSetBit(ordinal + 1)) {
+                ids.add(idByOrdinal[ordinal]);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int count(DeveloperSearchCondition condition) {
+        lock.readLock().lock();
+        try {
+            return match(condition).cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 항목 안에서는 OR, 항목끼리는 AND
+    private BitSet match(DeveloperSearchCondition condition) {
+        BitSet matched = new BitSet(size);
+        matched.set(0, size);
+
+        and(matched, bitmaps.level, condition.getDeveloperLevels());
+        and(matched, bitmaps.skillType, condition.getDeveloperSkillTypes());
+        and(matched, bitmaps.status, condition.getStatusCodes());
+
+        return matched;
+    }
+
+    private static void and(BitSet matched, BitSet[] bitmapsByValue, Collection<? extends Enum<?>> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+
+        BitSet union = new BitSet();
+        for (Enum<?> value : values) {
+            union.or(bitmapsByValue[value.ordinal()]);
+        }
+        matched.and(union);
+    }
+
+    // Developer 는 커밋 뒤에도 바뀔 수 있으므로 인덱스에 필요한 값만 복사해둔다
+    @AllArgsConstructor
+    private static final class IndexEntry {
+        private final long id;
+        private final long version;
+        private final DeveloperLevel developerLevel;
+        private final DeveloperSkillType developerSkillType;
+        private final StatusCode statusCode;
+    }
+
+    private static final class Bitmaps {
+        private final BitSet[] level = newBitmaps(DeveloperLevel.values().length);
+        private final BitSet[] skillType = newBitmaps(DeveloperSkillType.values().length);
+        private final BitSet[] status = newBitmaps(StatusCode.values().length);
+
+        private void set(int ordinal,
+                         DeveloperLevel developerLevel,
+                         DeveloperSkillType developerSkillType,
+                         StatusCode statusCode) {
+            set(level, developerLevel, ordinal);
+            set(skillType, developerSkillType, ordinal);
+            set(status, statusCode, ordinal);
+        }
+
+        // 다른 값의 비트는 꺼주고 현재 값의 비트만 켠다
+        private static void set(BitSet[] bitmapsByValue, Enum<?> value, int ordinal) {
+            for (BitSet bitmap : bitmapsByValue) {
+                bitmap.clear(ordinal);
+            }
+            if (value != null) {
+                bitmapsByValue[value.ordinal()].set(ordinal);
+            }
+        }
+
+        private Bitmaps or(Bitmaps other) {
+            or(level, other.level);
+            or(skillType, other.skillType);
+            or(status, other.status);
+            return this;
+        }
+
+        private static void or(BitSet[] target, BitSet[] source) {
+            for (int i = 0; i < target.length; i++) {
+                target[i].or(source[i]);
+            }
+        }
+
+        private static BitSet[] newBitmaps(int count) {
+            BitSet[] bitmaps = new BitSet[count];
+            for (int i = 0; i < count; i++) {
+                bitmaps[i] = new BitSet();
+            }
+            return bitmaps;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.dmaker.index;
+
+import java.util.Arrays;
+
+// Developer.id(long) -> ordinal(int) 용 open addressing(linear probing) 해시맵
+// HashMap<Long, Integer> 는 항목마다 Entry, Long, Integer 객체를 만들어서 개발자 수만큼 메모리와 GC 부담이 생긴다
+// 인덱스는 항목을 지우지 않으므로 put / get 만 있다. 값은 ordinal 이라 음수가 없고, 빈 칸은 -1 로 표시한다
+final class LongIntHashMap {
+
+    static final int NO_VALUE = -1;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int resizeAt;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    int get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; values[slot] != NO_VALUE; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return NO_VALUE;
+    }
+
+    void put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("value must not be negative: " + value);
+        }
+
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (values[slot] != NO_VALUE) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            resize();
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] == NO_VALUE) {
+                continue;
+            }
+            int slot = hash(oldKeys[i]) & mask;
+            while (values[slot] != NO_VALUE) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, NO_VALUE);
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    // id 는 연속된 값이 많으므로 비트를 섞어서 칸이 뭉치지 않게 한다
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
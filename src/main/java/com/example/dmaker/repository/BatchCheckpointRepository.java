@@ -0,0 +1,10 @@
+package com.example.dmaker.repository;
+
+import com.example.dmaker.entity.BatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, String> {
+
+}
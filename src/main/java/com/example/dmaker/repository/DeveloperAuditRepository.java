@@ -0,0 +1,13 @@
+package com.example.dmaker.repository;
+
+import com.example.dmaker.entity.DeveloperAudit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeveloperAuditRepository extends JpaRepository<DeveloperAudit, Long> {
+
+    Page<DeveloperAudit> findByMemberIdOrderByChangedAtDescIdDesc(String memberId, Pageable pageable);
+}
@@ -0,0 +1,20 @@
+package com.example.dmaker.repository;
+
+import com.example.dmaker.code.StatusCode;
+import com.example.dmaker.type.DeveloperLevel;
+import com.example.dmaker.type.DeveloperSkillType;
+
+// 비트맵 인덱스를 다시 만들 때 필요한 컬럼만 조회하기 위한 projection
+// Entity 전체가 아니라 id, version 과 enum 컬럼 세 개만 SELECT 된다
+public interface DeveloperIndexRow {
+
+    Long getId();
+
+    Long getVersion();
+
+    DeveloperLevel getDeveloperLevel();
+
+    DeveloperSkillType getDeveloperSkillType();
+
+    StatusCode getStatusCode();
+}
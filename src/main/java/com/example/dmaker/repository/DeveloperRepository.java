@@ -2,17 +2,69 @@ package com.example.dmaker.repository;
 
 import com.example.dmaker.code.StatusCode;
 import com.example.dmaker.entity.Developer;
+import com.example.dmaker.type.DeveloperLevel;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface DeveloperRepository extends JpaRepository<Developer, Long> {
+public interface DeveloperRepository extends JpaRepository<Developer, Long>, DeveloperRepositoryCustom {
     // Spring JAP 에서 메소드 명만 가지고도 특정 컬럼명을 검색할 수 있다.
     // 그게 findByMemberId
     Optional<Developer> findByMemberId(String memberId);
 
     List<Developer> findDevelopersByStatusCodeEquals(StatusCode statusCode);
+
+    // 비트맵 인덱스 rebuild 용. 인터페이스 projection 이라 필요한 컬럼만 SELECT 된다
+    List<DeveloperIndexRow> findAllProjectedBy();
+
+    List<Developer> findByIdBetween(Long fromId, Long toId);
+
+    // 배치에서 keyset 방식으로 청크 경계를 잡을 때 사용한다. offset 없이 마지막 id 다음부터 읽는다
+    @Query("select d.id from Developer d " +
+            "where d.statusCode = :statusCode and d.id > :lastId " +
+            "order by d.id")
+    List<Long> findIdsByStatusCodeAfter(@Param("statusCode") StatusCode statusCode,
+                                        @Param("lastId") Long lastId,
+                                        Pageable pageable);
+
+    // 벌크 update 는 @LastModifiedDate 와 @Version 을 거치지 않으므로 updatedAt 과 version 을 직접 넣어준다
+    @Modifying(clearAutomatically = true)
+    @Query("update Developer d " +
+            "set d.experienceYear = d.experienceYear + 1, " +
+            "d.experienceRecalculatedYear = :year, " +
+            "d.updatedAt = :now, " +
+            "d.version = d.version + 1 " +
+            "where d.id between :fromId and :toId " +
+            "and d.statusCode = :statusCode " +
+            "and (d.experienceRecalculatedYear is null or d.experienceRecalculatedYear < :year)")
+    int increaseExperienceYear(@Param("fromId") Long fromId,
+                               @Param("toId") Long toId,
+                               @Param("statusCode") StatusCode statusCode,
+                               @Param("year") Integer year,
+                               @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Developer d " +
+            "set d.developerLevel = :toLevel, " +
+            "d.updatedAt = :now, " +
+            "d.version = d.version + 1 " +
+            "where d.id between :fromId and :toId " +
+            "and d.statusCode = :statusCode " +
+            "and d.developerLevel = :fromLevel " +
+            "and d.experienceYear > :maxExperienceYear")
+    int promoteDeveloperLevel(@Param("fromId") Long fromId,
+                              @Param("toId") Long toId,
+                              @Param("statusCode") StatusCode statusCode,
+                              @Param("fromLevel") DeveloperLevel fromLevel,
+                              @Param("toLevel") DeveloperLevel toLevel,
+                              @Param("maxExperienceYear") Integer maxExperienceYear,
+                              @Param("now") LocalDateTime now);
 }
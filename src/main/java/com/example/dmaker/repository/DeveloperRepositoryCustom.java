@@ -0,0 +1,19 @@
+package com.example.dmaker.repository;
+
+import com.example.dmaker.code.StatusCode;
+import com.example.dmaker.type.DeveloperField;
+
+import javax.persistence.Tuple;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// 메소드 이름만으로는 만들 수 없는 쿼리는 Custom 인터페이스 + Impl 클래스로 만든다
+public interface DeveloperRepositoryCustom {
+
+    // 요청한 field 의 컬럼만 SELECT 한다. Tuple 의 alias 는 DeveloperField.fieldName
+    List<Tuple> findFieldsByStatusCode(StatusCode statusCode, Set<DeveloperField> fields);
+
+    Optional<Tuple> findFieldsByMemberId(String memberId, Set<DeveloperField> fields);
+}
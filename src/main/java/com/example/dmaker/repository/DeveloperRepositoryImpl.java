@@ -0,0 +1,60 @@
+package com.example.dmaker.repository;
+
+import com.example.dmaker.code.StatusCode;
+import com.example.dmaker.entity.Developer;
+import com.example.dmaker.type.DeveloperField;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// Spring Data JPA 는 "Repository 이름 + Impl" 클래스를 찾아서 DeveloperRepository 에 붙여준다
+@RequiredArgsConstructor
+public class DeveloperRepositoryImpl implements DeveloperRepositoryCustom {
+
+    private final EntityManager em;
+
+    @Override
+    public List<Tuple> findFieldsByStatusCode(StatusCode statusCode, Set<DeveloperField> fields) {
+        return findFields("statusCode", statusCode, fields, null);
+    }
+
+    @Override
+    public Optional<Tuple> findFieldsByMemberId(String memberId, Set<DeveloperField> fields) {
+        return findFields("memberId", memberId, fields, 1).stream().findFirst();
+    }
+
+    // field 조합이 매번 달라서 고정된 projection 타입을 만들 수 없으므로 Criteria 의 Tuple 로 동적 projection 을 만든다
+    private List<Tuple> findFields(String attributeName,
+                                   Object value,
+                                   Set<DeveloperField> fields,
+                                   Integer maxResults) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Developer> developer = query.from(Developer.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (DeveloperField field : fields) {
+            selections.add(developer.get(field.getFieldName()).alias(field.getFieldName()));
+        }
+
+        query.multiselect(selections)
+                .where(cb.equal(developer.get(attributeName), value));
+
+        TypedQuery<Tuple> typedQuery = em.createQuery(query);
+        if (maxResults != null) {
+            typedQuery.setMaxResults(maxResults);
+        }
+
+        return typedQuery.getResultList();
+    }
+}
@@ -1,23 +1,35 @@
 package com.example.dmaker.service;
 
+import com.example.dmaker.audit.DeveloperAuditWriter;
+import com.example.dmaker.code.AuditAction;
 import com.example.dmaker.code.StatusCode;
 import com.example.dmaker.dto.*;
 import com.example.dmaker.entity.Developer;
 import com.example.dmaker.entity.RetiredDeveloper;
 import com.example.dmaker.exception.DMakerException;
+import com.example.dmaker.index.DeveloperBitmapIndex;
+import com.example.dmaker.repository.DeveloperAuditRepository;
 import com.example.dmaker.repository.DeveloperRepository;
 import com.example.dmaker.repository.RetiredDeveloperRepository;
+import com.example.dmaker.type.DeveloperField;
 import com.example.dmaker.type.DeveloperLevel;
 import com.example.dmaker.type.DeveloperSkillType;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityTransaction;
 import javax.transaction.Transactional;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.example.dmaker.exception.DMakerErrorCode.*;
@@ -40,6 +52,17 @@ public class DMakerService {
 
     private final DeveloperRepository developerRepository;
     private final RetiredDeveloperRepository retiredDeveloperRepository;
+    private final DeveloperBitmapIndex developerBitmapIndex;
+    private final DeveloperAuditRepository developerAuditRepository;
+    private final DeveloperAuditWriter developerAuditWriter;
+
+    // 같은 memberId (와 같은 fields) 상세 조회가 동시에 몰리면 DB 조회 한 번을 같이 기다린다
+    // DTO 에 setter 가 있으므로 같이 기다린 요청은 각자 복사본을 받는다
+    // 생성 / 수정 / 퇴직이 커밋되면 forget 해서, 그 뒤의 조회는 커밋 전에 시작된 로딩에 붙지 않는다
+    private final SingleFlight<DetailLoadKey, DeveloperDetailDto> developerDetailLoads =
+            new SingleFlight<>(detail -> detail.toBuilder().build());
+
+    private static final int SEARCH_FETCH_SIZE = 1000;
 
     @Transactional
     public CreateDeveloper.Response createDeveloper(CreateDeveloper.Request request) {
@@ -54,9 +77,16 @@ public class DMakerService {
                 .statusCode(StatusCode.EMPLOYED)
                 .name(request.getName())
                 .age(request.getAge())
+                // 입력한 연차는 올해 기준이므로, 올해 연차 일괄 증가 배치가 다시 돌아도 올리지 않는다
+                .experienceRecalculatedYear(LocalDate.now().getYear())
                 .build();
 
         developerRepository.save(developer);
+        afterCommit(() -> developerBitmapIndex.index(developer));
+        afterCommit(() -> forgetDetailLoads(developer.getMemberId()));
+
+        DeveloperDetailDto after = DeveloperDetailDto.fromEntity(developer);
+        afterCommit(() -> developerAuditWriter.record(AuditAction.CREATE, developer.getMemberId(), null, after));
 
         // Response DTO 를 만들 때는 developer 를 생성한 직후에 그 developer 의 entity 로 만들어주기에 강한 결합을 하게 된다
         // 그럴 때는 developer 받아서 return 해주는 static 메소드를 만들어주는 것이 현명한 방법이 된다
@@ -132,14 +162,64 @@ public class DMakerService {
                 .collect(Collectors.toList());
     }
 
+    // ?fields= 로 요청한 컬럼만 SELECT 한다. 응답에서 요청한 항목만 내려주는 건 SparseFieldsetResponseBodyAdvice 가 한다
+    public List<DeveloperDto> getAllEmployedDevelopers(String fields) {
+        Set<DeveloperField> parsed = DeveloperField.parse(fields, DeveloperField.LIST_FIELDS);
+
+        return developerRepository.findFieldsByStatusCode(StatusCode.EMPLOYED, parsed)
+                .stream().map(tuple -> DeveloperDto.fromTuple(tuple, parsed))
+                .collect(Collectors.toList());
+    }
+
+    // 필터 계산은 비트맵 인덱스에서 끝내고, DB 에서는 조건에 맞는 row 만 가져온다
+    // id 를 한 번에 IN 으로 보내지 않고 SEARCH_FETCH_SIZE 씩 나눠서 가져오고, 순서는 인덱스(id) 순서를 유지한다
+    public List<DeveloperDto> searchDevelopers(DeveloperSearchCondition condition) {
+        List<Long> ids = developerBitmapIndex.findIds(condition);
+        List<DeveloperDto> developers = new ArrayList<>(ids.size());
+
+        for (int from = 0; from < ids.size(); from += SEARCH_FETCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + SEARCH_FETCH_SIZE));
+            Map<Long, Developer> developerById = developerRepository.findAllById(chunk)
+                    .stream().collect(Collectors.toMap(Developer::getId, Function.identity()));
+
+            for (Long id : chunk) {
+                Developer developer = developerById.get(id);
+                if (developer != null) {
+                    developers.add(DeveloperDto.fromEntity(developer));
+                }
+            }
+        }
+
+        return developers;
+    }
+
+    public long countDevelopers(DeveloperSearchCondition condition) {
+        return developerBitmapIndex.count(condition);
+    }
+
     public DeveloperDetailDto getDeveloperDetail(String memberId) {
-        return developerRepository.findByMemberId(memberId)
-                .map(DeveloperDetailDto::fromEntity)
-                // orElseThrow 는 null 값 나왔을 때의 예외 처리
-                .orElseThrow(() -> new DMakerException(NO_DEVELOPER));
+        return developerDetailLoads.execute(new DetailLoadKey(memberId, null), () ->
+                developerRepository.findByMemberId(memberId)
+                        .map(DeveloperDetailDto::fromEntity)
+                        // orElseThrow 는 null 값 나왔을 때의 예외 처리
+                        .orElseThrow(() -> new DMakerException(NO_DEVELOPER)));
 
     }
 
+    public DeveloperDetailDto getDeveloperDetail(String memberId, String fields) {
+        Set<DeveloperField> parsed = DeveloperField.parse(fields, DeveloperField.DETAIL_FIELDS);
+
+        return developerDetailLoads.execute(new DetailLoadKey(memberId, parsed), () ->
+                developerRepository.findFieldsByMemberId(memberId, parsed)
+                        .map(tuple -> DeveloperDetailDto.fromTuple(tuple, parsed))
+                        .orElseThrow(() -> new DMakerException(NO_DEVELOPER)));
+    }
+
+    // 같은 개발자의 진행 중인 상세 조회를 fields 조합과 상관없이 모두 뺀다
+    private void forgetDetailLoads(String memberId) {
+        developerDetailLoads.forgetIf(key -> key.getMemberId().equals(memberId));
+    }
+
     @Transactional
     public DeveloperDetailDto editDeveloper(String memberId, EditDeveloper.Request request) {
         validateEditDeveloperRequest(request, memberId);
@@ -148,11 +228,18 @@ public class DMakerService {
                 () -> new DMakerException(NO_DEVELOPER)
         );
 
+        DeveloperDetailDto before = DeveloperDetailDto.fromEntity(developer);
+
         developer.setDeveloperLevel(request.getDeveloperLevel());
         developer.setDeveloperSkillType(request.getDeveloperSkillType());
         developer.setExperienceYear(request.getExperienceYears());
+        afterCommit(() -> developerBitmapIndex.index(developer));
+        afterCommit(() -> forgetDetailLoads(memberId));
+
+        DeveloperDetailDto after = DeveloperDetailDto.fromEntity(developer);
+        afterCommit(() -> developerAuditWriter.record(AuditAction.EDIT, memberId, before, after));
 
-        return DeveloperDetailDto.fromEntity(developer);
+        return after;
     }
 
     private void validateEditDeveloperRequest(EditDeveloper.Request request, String memberId) {
@@ -166,19 +253,11 @@ public class DMakerService {
     }
 
     private void validateDeveloperLevel(DeveloperLevel developerLevel, Integer experienceYears) {
-        if(developerLevel == DeveloperLevel.SENIOR
-                && experienceYears < 10) {
+        // 레벨별 연차 범위는 DeveloperLevel 에 있다. 연차 일괄 증가 배치도 같은 범위로 승급 대상을 고른다
+        if(!developerLevel.isExperienceYearsMatched(experienceYears)) {
             // 예외를 던질 때는 다양한 Exception 들을 날릴 수 있지만, 이렇게 커스텀 Exception 날려주는 게 좋다.
             throw new DMakerException(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED);
         }
-
-        if(developerLevel == DeveloperLevel.JUNGNIOR
-                && (experienceYears < 4 || experienceYears > 10)) {
-            throw new DMakerException(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED);
-        }
-        if(developerLevel == DeveloperLevel.JUNIOR && experienceYears > 4) {
-            throw new DMakerException(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED);
-        }
     }
 
     @Transactional
@@ -186,6 +265,7 @@ public class DMakerService {
         // EMPLOYED -> RETIRED
         Developer developer = developerRepository.findByMemberId(memberId)
                 .orElseThrow(() -> new DMakerException(NO_DEVELOPER));
+        DeveloperDetailDto before = DeveloperDetailDto.fromEntity(developer);
         developer.setStatusCode(StatusCode.RETIRED);
 
         // save into RetiredDeveloper
@@ -195,7 +275,41 @@ public class DMakerService {
                 .build();
 
         retiredDeveloperRepository.save(retiredDeveloper);
+        afterCommit(() -> developerBitmapIndex.index(developer));
+        afterCommit(() -> forgetDetailLoads(memberId));
+
+        DeveloperDetailDto after = DeveloperDetailDto.fromEntity(developer);
+        afterCommit(() -> developerAuditWriter.record(AuditAction.RETIRE, memberId, before, after));
+
+        return after;
+    }
+
+    // 변경 이력은 비동기로 저장되므로 방금 커밋된 변경은 조금 늦게 보일 수 있다
+    public Page<DeveloperAuditDto> getDeveloperAudits(String memberId, Pageable pageable) {
+        return developerAuditRepository.findByMemberIdOrderByChangedAtDescIdDesc(memberId, pageable)
+                .map(DeveloperAuditDto::fromEntity);
+    }
+
+    // 롤백된 변경이 인덱스나 변경 이력에 남으면 안 되므로 커밋이 끝난 뒤에 실행한다
+    // 트랜잭션 밖에서 호출된 경우에는 바로 실행한다
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 
-        return DeveloperDetailDto.fromEntity(developer);
+    // 상세 조회 coalescing 의 key. fields 가 null 이면 Entity 전체를 읽는 기본 상세 조회다
+    @Value
+    static class DetailLoadKey {
+        String memberId;
+        Set<DeveloperField> fields;
     }
 }
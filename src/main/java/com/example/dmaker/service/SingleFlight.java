@@ -0,0 +1,77 @@
+package com.example.dmaker.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+// 같은 key 로 동시에 들어온 요청은 먼저 들어온 요청 하나만 실제로 로딩하고, 나머지는 그 결과를 같이 받는다
+// ConcurrentHashMap 은 bin 단위로만 잠그기 때문에 서로 다른 key 끼리는 경합하지 않는다
+// 결과를 캐싱하지는 않는다. 로딩이 끝나면 바로 map 에서 빠지므로 다음 요청은 다시 DB 를 읽는다
+// 결과가 변경 가능한 객체라면 copier 를 넘겨서, 붙은 요청마다 복사본을 받게 한다
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> copier;
+
+    public SingleFlight() {
+        this(UnaryOperator.identity());
+    }
+
+    public SingleFlight(UnaryOperator<V> copier) {
+        this.copier = copier;
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return copier.apply(join(existing));
+        }
+
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            // 기다리던 요청들도 같은 예외를 받는다 (ex. NO_DEVELOPER)
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    // 진행 중인 로딩을 map 에서 뺀다. 이미 기다리고 있던 요청은 그 결과를 그대로 받고, 이후 요청은 새로 로딩한다
+    // 쓰기가 커밋된 뒤에 호출해서, 커밋 전에 시작된 로딩의 옛 값을 커밋 뒤의 요청이 받지 않게 한다
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    // 조건에 맞는 key 의 진행 중인 로딩을 모두 뺀다. map 에는 진행 중인 로딩만 있으므로 크지 않다
+    public void forgetIf(Predicate<K> condition) {
+        inFlight.keySet().removeIf(condition);
+    }
+
+    // key 의 로딩 결과를 기다리고 있는 요청 수 (테스트용)
+    int waiters(K key) {
+        CompletableFuture<V> future = inFlight.get(key);
+        return future == null ? 0 : future.getNumberOfDependents();
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
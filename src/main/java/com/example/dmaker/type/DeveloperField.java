@@ -0,0 +1,61 @@
+package com.example.dmaker.type;
+
+import com.example.dmaker.exception.DMakerException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.example.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
+
+// ?fields= 로 골라 받을 수 있는 개발자 항목
+// fieldName 은 JSON 필드명이자 Developer Entity 의 속성명이다
+@AllArgsConstructor
+@Getter
+public enum DeveloperField {
+
+    DEVELOPER_LEVEL("developerLevel"),
+    DEVELOPER_SKILL_TYPE("developerSkillType"),
+    EXPERIENCE_YEAR("experienceYear"),
+    MEMBER_ID("memberId"),
+    STATUS_CODE("statusCode"),
+    NAME("name"),
+    AGE("age");
+
+    // DeveloperDto / DeveloperDetailDto 에 mix-in 으로 붙는 @JsonFilter 이름. 요청한 field 만 직렬화할 때 쓴다 (JacksonConfig)
+    public static final String FILTER_ID = "developerFields";
+
+    // 목록 API 는 원래 DeveloperDto 의 세 항목만 내려주므로 그 안에서만 고를 수 있다
+    public static final Set<DeveloperField> LIST_FIELDS =
+            Collections.unmodifiableSet(EnumSet.of(DEVELOPER_LEVEL, DEVELOPER_SKILL_TYPE, MEMBER_ID));
+
+    public static final Set<DeveloperField> DETAIL_FIELDS =
+            Collections.unmodifiableSet(EnumSet.allOf(DeveloperField.class));
+
+    private final String fieldName;
+
+    // "memberId,name" -> [MEMBER_ID, NAME]
+    public static Set<DeveloperField> parse(String fields, Set<DeveloperField> allowed) {
+        Set<DeveloperField> parsed = EnumSet.noneOf(DeveloperField.class);
+
+        for (String fieldName : fields.split(",")) {
+            String trimmed = fieldName.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+
+            parsed.add(allowed.stream()
+                    .filter(field -> field.fieldName.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new DMakerException(INVALID_REQUEST, "지원하지 않는 field 입니다: " + trimmed)));
+        }
+
+        if (parsed.isEmpty()) {
+            throw new DMakerException(INVALID_REQUEST, "fields 가 비어 있습니다");
+        }
+
+        return parsed;
+    }
+}
@@ -7,11 +7,21 @@ import lombok.Getter;
 @Getter
 public enum DeveloperLevel {
 
-    NEW("신입 개발자"),
-    JUNIOR("주니어 개발자"),
-    JUNGNIOR("중니어 개발자"),
-    SENIOR("시니어 개발자");
+    // 레벨별 연차 범위. null 이면 그쪽으로는 제한이 없다
+    NEW("신입 개발자", null, null),
+    JUNIOR("주니어 개발자", null, 4),
+    JUNGNIOR("중니어 개발자", 4, 10),
+    SENIOR("시니어 개발자", 10, null);
 
 
     private final String description;
-}
\ No newline at end of file
+    private final Integer minExperienceYears;
+    private final Integer maxExperienceYears;
+
+    public boolean isExperienceYearsMatched(int experienceYears) {
+        if (minExperienceYears != null && experienceYears < minExperienceYears) {
+            return false;
+        }
+        return maxExperienceYears == null || experienceYears <= maxExperienceYears;
+    }
+}
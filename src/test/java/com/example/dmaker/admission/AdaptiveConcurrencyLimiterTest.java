@@ -0,0 +1,194 @@
+package com.example.dmaker.admission;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void admitsUpToLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0, 0);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void queuedRequestTimesOut() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 30);
+        limiter.tryAcquire();
+
+        long startedAt = System.nanoTime();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        assertThat(System.nanoTime() - startedAt).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+        assertThat(limiter.getWaiting()).isZero();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void queuedRequestIsAdmittedOnRelease() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 5_000);
+        limiter.tryAcquire();
+
+        Future<Boolean> queued = executor.submit(limiter::tryAcquire);
+        awaitWaiting(limiter, 1);
+        limiter.release(FAST);
+
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 5_000);
+        limiter.tryAcquire();
+        Future<Boolean> queued = executor.submit(limiter::tryAcquire);
+        awaitWaiting(limiter, 1);
+
+        long startedAt = System.nanoTime();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(System.nanoTime() - startedAt).isLessThan(TimeUnit.SECONDS.toNanos(1));
+
+        limiter.release(FAST);
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void fastReleaseDoesNotIncreaseLimitWhenNotSaturated() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 0, 0);
+
+        // 한 번에 하나씩만 처리하면 limit 4 가 꽉 차지 않는다
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void fastReleaseIncreasesLimitAfterSaturation() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0, 0);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        limiter.release(FAST);
+        limiter.release(FAST);
+
+        // 꽉 찼던 한 번에 대해서만 1 늘어난다
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void slowLatencyDecreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 0, 0);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+
+        assertThat(limiter.getLimit()).isEqualTo(9);
+    }
+
+    @Test
+    void burstOfLimitSlowCompletionsCutsOnce() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 0, 0);
+
+        // limit 만큼 동시에 들어온 요청이 모두 느리게 끝나도 한 번만 줄인다
+        fillAndRelease(limiter, SLOW);
+
+        assertThat(limiter.getLimit()).isEqualTo(9);
+    }
+
+    @Test
+    void persistentSlowLatencyCutsOncePerWindow() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 0, 0);
+
+        fillAndRelease(limiter, SLOW);
+        fillAndRelease(limiter, SLOW);
+
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    void singleSlowOutlierIsSmoothedOut() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 0, 0);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST);
+        }
+
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void limitStaysWithinBounds() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 0, 0);
+
+        // limit 까지 꽉 채웠다가 모두 느리게 끝나는 일을 반복해도 minLimit 아래로 내려가지 않는다
+        for (int i = 0; i < 50; i++) {
+            fillAndRelease(limiter, SLOW);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(1);
+
+        // 모두 빨리 끝나는 일을 반복해도 maxLimit 을 넘지 않는다
+        for (int i = 0; i < 50; i++) {
+            fillAndRelease(limiter, FAST);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    private void fillAndRelease(AdaptiveConcurrencyLimiter limiter, long latencyNanos) {
+        int limit = limiter.getLimit();
+        for (int i = 0; i < limit; i++) {
+            limiter.tryAcquire();
+        }
+        for (int i = 0; i < limit; i++) {
+            limiter.release(latencyNanos);
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int queueSize, long queueTimeoutMillis) {
+        AdmissionControlProperties.Limit properties = new AdmissionControlProperties.Limit();
+        properties.setInitialLimit(initialLimit);
+        properties.setMinLimit(1);
+        properties.setMaxLimit(20);
+        properties.setQueueSize(queueSize);
+        properties.setQueueTimeoutMillis(queueTimeoutMillis);
+        properties.setTargetLatencyMillis(200);
+        return new AdaptiveConcurrencyLimiter("test", properties);
+    }
+
+    private void awaitWaiting(AdaptiveConcurrencyLimiter limiter, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limiter.getWaiting() < count) {
+            if (System.nanoTime() > deadline) {
+                fail("waiting: " + limiter.getWaiting());
+            }
+            Thread.sleep(1);
+        }
+    }
+}
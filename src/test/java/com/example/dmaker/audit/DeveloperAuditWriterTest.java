@@ -0,0 +1,194 @@
+package com.example.dmaker.audit;
+
+import com.example.dmaker.code.AuditAction;
+import com.example.dmaker.entity.DeveloperAudit;
+import com.example.dmaker.repository.DeveloperAuditRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperAuditWriterTest {
+
+    private static final String WRITER_THREAD = "developer-audit-writer";
+
+    @Mock
+    private DeveloperAuditRepository developerAuditRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DeveloperAuditWriter writer;
+
+    // 저장된 memberId -> 저장한 스레드 이름
+    private final Map<String, String> savedBy = new ConcurrentHashMap<>();
+    // saveAll 에 넘어온 묶음. 실패한 묶음도 포함한다
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    // writer 스레드의 저장을 붙잡아 둘 때 쓴다
+    private volatile boolean blockWriter;
+    private final CountDownLatch writerSaving = new CountDownLatch(1);
+    private final CountDownLatch releaseWriter = new CountDownLatch(1);
+
+    // 이 조건에 맞는 묶음은 저장에 실패한다
+    private volatile Predicate<List<String>> failing = batch -> false;
+
+    @BeforeEach
+    void setUp() {
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given(developerAuditRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<DeveloperAudit> audits = invocation.getArgument(0);
+            List<String> memberIds = audits.stream()
+                    .map(DeveloperAudit::getMemberId)
+                    .collect(Collectors.toList());
+            batches.add(memberIds);
+
+            String thread = Thread.currentThread().getName();
+            if (blockWriter && thread.equals(WRITER_THREAD)) {
+                writerSaving.countDown();
+                releaseWriter.await();
+            }
+            if (failing.test(memberIds)) {
+                throw new DataIntegrityViolationException("broken audit row");
+            }
+            memberIds.forEach(memberId -> savedBy.put(memberId, thread));
+            return audits;
+        });
+
+        writer = new DeveloperAuditWriter(developerAuditRepository, transactionManager, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        releaseWriter.countDown();
+        writer.shutdown();
+    }
+
+    @Test
+    void callerWritesItselfWhenQueueIsFull() throws Exception {
+        blockWriter = true;
+        start(1, 100, 60_000);
+
+        record("queued");
+        // 꽉 찬 큐가 writer 를 깨우고, writer 는 첫 이력을 저장하는 중에 붙잡힌다
+        record("overflow");
+
+        assertThat(writerSaving.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(savedBy).containsEntry("overflow", Thread.currentThread().getName());
+
+        releaseWriter.countDown();
+        awaitSaved(2);
+        assertThat(savedBy).containsEntry("queued", WRITER_THREAD);
+    }
+
+    @Test
+    void failedCallerWriteIsNotQueuedPastCapacity() throws Exception {
+        blockWriter = true;
+        failing = batch -> batch.contains("overflow");
+        start(1, 100, 60_000);
+
+        record("queued");
+        record("overflow");
+
+        assertThat(writerSaving.await(5, TimeUnit.SECONDS)).isTrue();
+        AtomicInteger queued = (AtomicInteger) ReflectionTestUtils.getField(writer, "queued");
+        assertThat(queued.get()).isEqualTo(1);
+
+        releaseWriter.countDown();
+        writer.shutdown();
+        assertThat(savedBy).containsOnlyKeys("queued");
+    }
+
+    @Test
+    void shutdownWritesEverythingStillQueued() throws Exception {
+        start(100, 100, 60_000);
+        List<String> memberIds = Arrays.asList("m1", "m2", "m3", "m4", "m5");
+        for (String memberId : memberIds) {
+            record(memberId);
+        }
+
+        writer.shutdown();
+
+        assertThat(savedBy).containsOnlyKeys(memberIds);
+        assertThat(savedBy.values()).containsOnly(WRITER_THREAD);
+    }
+
+    @Test
+    void brokenRowIsRetriedAloneAndOthersAreSaved() throws Exception {
+        // 묶음으로 한 번, 한 건씩 한 번 실패하고 그다음 재시도에서 저장된다
+        AtomicInteger brokenAttempts = new AtomicInteger();
+        failing = batch -> batch.contains("broken") && brokenAttempts.incrementAndGet() <= 2;
+        start(100, 3, 60_000);
+
+        record("before");
+        record("broken");
+        record("after");
+
+        awaitSaved(3);
+        assertThat(batches).containsExactly(
+                Arrays.asList("before", "broken", "after"),
+                Collections.singletonList("before"),
+                Collections.singletonList("broken"),
+                Collections.singletonList("after"),
+                Collections.singletonList("broken"));
+    }
+
+    @Test
+    void eventRecordedAfterShutdownIsStillSaved() throws Exception {
+        start(100, 100, 60_000);
+        writer.shutdown();
+
+        record("late");
+
+        assertThat(savedBy).containsEntry("late", Thread.currentThread().getName());
+    }
+
+    private void start(int capacity, int batchSize, long flushIntervalMillis) {
+        ReflectionTestUtils.setField(writer, "capacity", capacity);
+        ReflectionTestUtils.setField(writer, "batchSize", batchSize);
+        ReflectionTestUtils.setField(writer, "flushIntervalMillis", flushIntervalMillis);
+        ReflectionTestUtils.setField(writer, "offerTimeoutMillis", 10L);
+        ReflectionTestUtils.setField(writer, "shutdownTimeoutMillis", 5_000L);
+        ReflectionTestUtils.setField(writer, "retryAttempts", 3);
+        writer.start();
+    }
+
+    private void record(String memberId) {
+        writer.record(AuditAction.EDIT, memberId, null, null, DeveloperAuditWriter.SYSTEM_ACTOR);
+    }
+
+    private void awaitSaved(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (savedBy.size() < count) {
+            if (System.nanoTime() > deadline) {
+                fail("saved: " + savedBy.keySet());
+            }
+            Thread.sleep(1);
+        }
+    }
+}
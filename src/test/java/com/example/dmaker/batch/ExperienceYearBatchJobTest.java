@@ -0,0 +1,169 @@
+package com.example.dmaker.batch;
+
+import com.example.dmaker.code.StatusCode;
+import com.example.dmaker.dto.CreateDeveloper;
+import com.example.dmaker.dto.ExperienceYearBatchResult;
+import com.example.dmaker.entity.BatchCheckpoint;
+import com.example.dmaker.entity.Developer;
+import com.example.dmaker.exception.DMakerException;
+import com.example.dmaker.index.DeveloperBitmapIndex;
+import com.example.dmaker.repository.BatchCheckpointRepository;
+import com.example.dmaker.repository.DeveloperRepository;
+import com.example.dmaker.service.DMakerService;
+import com.example.dmaker.type.DeveloperLevel;
+import com.example.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.time.LocalDate;
+
+import static com.example.dmaker.exception.DMakerErrorCode.BATCH_FAILED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+
+// 청크 2 개, 스레드 1 개로 돌려서 청크 경계와 체크포인트를 확인하기 쉽게 한다
+@SpringBootTest(properties = {
+        "dmaker.batch.experience-year.chunk-size=2",
+        "dmaker.batch.experience-year.threads=1"
+})
+class ExperienceYearBatchJobTest {
+
+    private static final int TARGET_YEAR = 2030;
+
+    @Autowired
+    private ExperienceYearBatchJob experienceYearBatchJob;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private BatchCheckpointRepository batchCheckpointRepository;
+
+    @Autowired
+    private DMakerService dMakerService;
+
+    @SpyBean
+    private DeveloperBitmapIndex developerBitmapIndex;
+
+    @AfterEach
+    void tearDown() {
+        batchCheckpointRepository.deleteAll();
+        developerRepository.deleteAll();
+    }
+
+    @Test
+    void increasesEmployedDevelopersByExactlyOneYear() {
+        Developer employed = save("employed", DeveloperLevel.JUNGNIOR, 5, StatusCode.EMPLOYED);
+        Developer retired = save("retired", DeveloperLevel.SENIOR, 12, StatusCode.RETIRED);
+
+        ExperienceYearBatchResult result = experienceYearBatchJob.run(TARGET_YEAR);
+
+        assertThat(result.getIncreasedCount()).isEqualTo(1);
+        assertThat(reload(employed).getExperienceYear()).isEqualTo(6);
+        assertThat(reload(employed).getExperienceRecalculatedYear()).isEqualTo(TARGET_YEAR);
+        assertThat(reload(retired).getExperienceYear()).isEqualTo(12);
+        assertThat(reload(retired).getExperienceRecalculatedYear()).isNull();
+    }
+
+    @Test
+    void promotesThroughJungniorToSenior() {
+        Developer stays = save("stays", DeveloperLevel.JUNIOR, 2, StatusCode.EMPLOYED);
+        Developer toJungnior = save("to-jungnior", DeveloperLevel.JUNIOR, 4, StatusCode.EMPLOYED);
+        Developer toSenior = save("to-senior", DeveloperLevel.JUNIOR, 10, StatusCode.EMPLOYED);
+
+        ExperienceYearBatchResult result = experienceYearBatchJob.run(TARGET_YEAR);
+
+        assertThat(reload(stays).getDeveloperLevel()).isEqualTo(DeveloperLevel.JUNIOR);
+        assertThat(reload(toJungnior).getDeveloperLevel()).isEqualTo(DeveloperLevel.JUNGNIOR);
+        assertThat(reload(toSenior).getDeveloperLevel()).isEqualTo(DeveloperLevel.SENIOR);
+        assertThat(reload(toSenior).getExperienceYear()).isEqualTo(11);
+        // to-jungnior 한 번, to-senior 두 번
+        assertThat(result.getPromotedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void runningTwiceInSameYearIsNoOp() {
+        Developer developer = save("developer", DeveloperLevel.JUNGNIOR, 5, StatusCode.EMPLOYED);
+        experienceYearBatchJob.run(TARGET_YEAR);
+
+        // 첫 실행 뒤에 들어온 개발자도 같은 해에는 다시 올리지 않는다
+        Developer hiredAfterRun = save("hired-after-run", DeveloperLevel.JUNIOR, 1, StatusCode.EMPLOYED);
+        ExperienceYearBatchResult result = experienceYearBatchJob.run(TARGET_YEAR);
+
+        assertThat(result.getAlreadyCompleted()).isTrue();
+        assertThat(result.getIncreasedCount()).isZero();
+        assertThat(reload(developer).getExperienceYear()).isEqualTo(6);
+        assertThat(reload(hiredAfterRun).getExperienceYear()).isEqualTo(1);
+    }
+
+    @Test
+    void createdDeveloperIsNotIncreasedInHiringYear() {
+        dMakerService.createDeveloper(CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.JUNIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(2)
+                .memberId("new-hire")
+                .name("newHire")
+                .age(25)
+                .build());
+
+        experienceYearBatchJob.run(LocalDate.now().getYear());
+
+        Developer created = developerRepository.findByMemberId("new-hire").orElseThrow();
+        assertThat(created.getExperienceYear()).isEqualTo(2);
+    }
+
+    @Test
+    void resumesFromCheckpointAfterFailure() {
+        Developer first = save("first", DeveloperLevel.JUNGNIOR, 5, StatusCode.EMPLOYED);
+        Developer second = save("second", DeveloperLevel.JUNGNIOR, 5, StatusCode.EMPLOYED);
+        Developer third = save("third", DeveloperLevel.JUNGNIOR, 5, StatusCode.EMPLOYED);
+        Developer fourth = save("fourth", DeveloperLevel.JUNGNIOR, 5, StatusCode.EMPLOYED);
+
+        // 두 번째 청크는 커밋된 뒤 인덱싱에서 한 번 실패한다
+        doThrow(new IllegalStateException("index failed"))
+                .doCallRealMethod()
+                .when(developerBitmapIndex)
+                .index(argThat(developer -> developer != null && third.getId().equals(developer.getId())));
+
+        DMakerException failure = catchThrowableOfType(() -> experienceYearBatchJob.run(TARGET_YEAR), DMakerException.class);
+        assertThat(failure).isNotNull();
+        assertThat(failure.getDMakerErrorCode()).isEqualTo(BATCH_FAILED);
+
+        BatchCheckpoint checkpoint = batchCheckpointRepository.findById("experience-year").orElseThrow();
+        assertThat(checkpoint.getLastProcessedId()).isEqualTo(second.getId());
+        assertThat(checkpoint.isCompleted()).isFalse();
+
+        ExperienceYearBatchResult result = experienceYearBatchJob.run(TARGET_YEAR);
+
+        assertThat(result.getStartedAfterId()).isEqualTo(second.getId());
+        assertThat(result.getLastProcessedId()).isEqualTo(fourth.getId());
+        // 두 번째 청크는 첫 실행에서 이미 커밋되었으므로 다시 올리지 않는다
+        assertThat(result.getIncreasedCount()).isZero();
+        for (Developer developer : new Developer[]{first, second, third, fourth}) {
+            assertThat(reload(developer).getExperienceYear()).isEqualTo(6);
+        }
+        assertThat(batchCheckpointRepository.findById("experience-year").orElseThrow().isCompleted()).isTrue();
+    }
+
+    private Developer save(String memberId, DeveloperLevel developerLevel, int experienceYear, StatusCode statusCode) {
+        return developerRepository.save(Developer.builder()
+                .memberId(memberId)
+                .name(memberId)
+                .age(30)
+                .developerLevel(developerLevel)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYear(experienceYear)
+                .statusCode(statusCode)
+                .build());
+    }
+
+    private Developer reload(Developer developer) {
+        return developerRepository.findById(developer.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.dmaker.controller;
+
+import com.example.dmaker.code.StatusCode;
+import com.example.dmaker.dto.DeveloperDetailDto;
+import com.example.dmaker.entity.Developer;
+import com.example.dmaker.repository.DeveloperRepository;
+import com.example.dmaker.type.DeveloperLevel;
+import com.example.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// ?fields= 가 응답 JSON 에 어떻게 반영되는지 고정해둔다
+@SpringBootTest
+@AutoConfigureMockMvc
+class DMakerControllerTest {
+
+    private static final String MEMBER_ID = "sparse-member";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        developerRepository.save(Developer.builder()
+                .memberId(MEMBER_ID)
+                .name("sparse")
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYear(12)
+                .statusCode(StatusCode.EMPLOYED)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        developerRepository.deleteAll();
+    }
+
+    @Test
+    void listWithFieldsReturnsOnlyRequestedFields() throws Exception {
+        JsonNode developers = getJson("/developers?fields=memberId");
+
+        assertThat(developers).hasSize(1);
+        assertThat(fieldNames(developers.get(0))).containsExactly("memberId");
+        assertThat(developers.get(0).get("memberId").asText()).isEqualTo(MEMBER_ID);
+    }
+
+    @Test
+    void listWithoutFieldsIsUnchanged() throws Exception {
+        JsonNode developers = getJson("/developers");
+
+        assertThat(fieldNames(developers.get(0)))
+                .containsExactlyInAnyOrder("developerLevel", "developerSkillType", "memberId");
+    }
+
+    @Test
+    void detailWithFieldsKeepsRequestedNullField() throws Exception {
+        JsonNode developer = getJson("/developer/" + MEMBER_ID + "?fields=name,age");
+
+        assertThat(fieldNames(developer)).containsExactlyInAnyOrder("name", "age");
+        assertThat(developer.get("name").asText()).isEqualTo("sparse");
+        assertThat(developer.get("age").isNull()).isTrue();
+    }
+
+    @Test
+    void detailWithoutFieldsIsUnchanged() throws Exception {
+        JsonNode developer = getJson("/developer/" + MEMBER_ID);
+
+        assertThat(fieldNames(developer)).containsExactlyInAnyOrder(
+                "developerLevel", "developerSkillType", "experienceYear",
+                "memberId", "statusCode", "name", "age");
+    }
+
+    @Test
+    void detailOnlyFieldIsRejectedOnList() throws Exception {
+        mockMvc.perform(get("/developers?fields=memberId,name"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+    }
+
+    @Test
+    void unknownFieldIsRejected() throws Exception {
+        mockMvc.perform(get("/developer/" + MEMBER_ID + "?fields=salary"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+    }
+
+    @Test
+    void emptyFieldsAreRejected() throws Exception {
+        mockMvc.perform(get("/developers").param("fields", ""))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+        mockMvc.perform(get("/developers").param("fields", " , "))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+    }
+
+    @Test
+    void plainObjectMapperSerializesDtoWithoutFilterProvider() throws Exception {
+        String json = new ObjectMapper().writeValueAsString(DeveloperDetailDto.builder()
+                .memberId(MEMBER_ID)
+                .build());
+
+        assertThat(json).contains("\"memberId\":\"" + MEMBER_ID + "\"");
+    }
+
+    private JsonNode getJson(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.dmaker.index;
+
+import com.example.dmaker.code.StatusCode;
+import com.example.dmaker.dto.DeveloperSearchCondition;
+import com.example.dmaker.entity.Developer;
+import com.example.dmaker.repository.DeveloperIndexRow;
+import com.example.dmaker.repository.DeveloperRepository;
+import com.example.dmaker.type.DeveloperLevel;
+import com.example.dmaker.type.DeveloperSkillType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.example.dmaker.code.StatusCode.EMPLOYED;
+import static com.example.dmaker.code.StatusCode.RETIRED;
+import static com.example.dmaker.type.DeveloperLevel.JUNGNIOR;
+import static com.example.dmaker.type.DeveloperLevel.JUNIOR;
+import static com.example.dmaker.type.DeveloperLevel.SENIOR;
+import static com.example.dmaker.type.DeveloperSkillType.BACK_END;
+import static com.example.dmaker.type.DeveloperSkillType.FRONT_END;
+import static com.example.dmaker.type.DeveloperSkillType.FULL_STACK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class DeveloperBitmapIndexTest {
+
+    private final DeveloperRepository developerRepository = mock(DeveloperRepository.class);
+    private final DeveloperBitmapIndex index = new DeveloperBitmapIndex(developerRepository);
+
+    @Test
+    void andAcrossDimensionsAndOrWithinDimension() {
+        rebuildWith(
+                row(1L, SENIOR, BACK_END, EMPLOYED),
+                row(2L, JUNGNIOR, BACK_END, EMPLOYED),
+                row(3L, SENIOR, FRONT_END, EMPLOYED),
+                row(4L, SENIOR, BACK_END, RETIRED),
+                row(5L, JUNIOR, BACK_END, EMPLOYED));
+
+        DeveloperSearchCondition condition = DeveloperSearchCondition.builder()
+                .statusCodes(Collections.singletonList(EMPLOYED))
+                .developerLevels(Arrays.asList(SENIOR, JUNGNIOR))
+                .developerSkillTypes(Collections.singletonList(BACK_END))
+                .build();
+
+        assertThat(index.findIds(condition)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void emptyConditionMatchesEveryone() {
+        rebuildWith(
+                row(1L, SENIOR, BACK_END, EMPLOYED),
+                row(2L, JUNIOR, FRONT_END, RETIRED));
+
+        assertThat(index.findIds(new DeveloperSearchCondition())).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void countsMatchedDevelopers() {
+        rebuildWith(
+                row(1L, SENIOR, BACK_END, EMPLOYED),
+                row(2L, SENIOR, FULL_STACK, EMPLOYED),
+                row(3L, SENIOR, FRONT_END, RETIRED),
+                row(4L, JUNIOR, BACK_END, EMPLOYED));
+
+        assertThat(index.count(levels(SENIOR))).isEqualTo(3);
+        assertThat(index.count(DeveloperSearchCondition.builder()
+                .developerLevels(Collections.singletonList(SENIOR))
+                .statusCodes(Collections.singletonList(EMPLOYED))
+                .build())).isEqualTo(2);
+        assertThat(index.count(levels(JUNGNIOR))).isZero();
+    }
+
+    @Test
+    void indexMovesDeveloperBetweenBitmaps() {
+        rebuildWith(row(1L, JUNIOR, BACK_END, EMPLOYED));
+
+        index.index(developer(1L, 1L, SENIOR, EMPLOYED));
+
+        assertThat(index.findIds(levels(JUNIOR))).isEmpty();
+        assertThat(index.findIds(levels(SENIOR))).containsExactly(1L);
+    }
+
+    @Test
+    void indexAppendsNewDeveloper() {
+        rebuildWith(row(1L, JUNIOR, BACK_END, EMPLOYED));
+
+        index.index(developer(2L, 0L, JUNIOR, EMPLOYED));
+
+        assertThat(index.findIds(levels(JUNIOR))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void olderVersionArrivingLateIsIgnored() {
+        rebuildWith(row(1L, JUNIOR, BACK_END, EMPLOYED));
+
+        index.index(developer(1L, 2L, SENIOR, EMPLOYED));
+        index.index(developer(1L, 1L, JUNGNIOR, EMPLOYED));
+
+        assertThat(index.findIds(levels(SENIOR))).containsExactly(1L);
+        assertThat(index.findIds(levels(JUNGNIOR))).isEmpty();
+    }
+
+    @Test
+    void writeDuringRebuildIsReplayedOntoNewBitmaps() {
+        // DB 를 읽는 동안 커밋된 변경은 읽어온 스냅샷에 빠져 있다
+        given(developerRepository.findAllProjectedBy()).willAnswer(invocation -> {
+            index.index(developer(1L, 1L, SENIOR, RETIRED));
+            return Collections.singletonList(row(1L, JUNIOR, BACK_END, EMPLOYED));
+        });
+
+        index.rebuild();
+
+        assertThat(index.findIds(levels(SENIOR))).containsExactly(1L);
+        assertThat(index.count(levels(JUNIOR))).isZero();
+        assertThat(index.count(DeveloperSearchCondition.builder()
+                .statusCodes(Collections.singletonList(RETIRED))
+                .build())).isEqualTo(1);
+    }
+
+    @Test
+    void staleWriteDuringRebuildDoesNotOverwriteNewerSnapshot() {
+        given(developerRepository.findAllProjectedBy()).willAnswer(invocation -> {
+            index.index(developer(1L, 1L, JUNGNIOR, EMPLOYED));
+            return Collections.singletonList(row(1L, 2L, SENIOR, BACK_END, EMPLOYED));
+        });
+
+        index.rebuild();
+
+        assertThat(index.findIds(levels(SENIOR))).containsExactly(1L);
+        assertThat(index.findIds(levels(JUNGNIOR))).isEmpty();
+    }
+
+    private void rebuildWith(DeveloperIndexRow... rows) {
+        given(developerRepository.findAllProjectedBy()).willReturn(Arrays.asList(rows));
+        index.rebuild();
+    }
+
+    private static DeveloperSearchCondition levels(DeveloperLevel... developerLevels) {
+        return DeveloperSearchCondition.builder()
+                .developerLevels(Arrays.asList(developerLevels))
+                .build();
+    }
+
+    private static DeveloperIndexRow row(Long id,
+                                         DeveloperLevel developerLevel,
+                                         DeveloperSkillType developerSkillType,
+                                         StatusCode statusCode) {
+        return row(id, 0L, developerLevel, developerSkillType, statusCode);
+    }
+
+    private static DeveloperIndexRow row(Long id,
+                                         Long version,
+                                         DeveloperLevel developerLevel,
+                                         DeveloperSkillType developerSkillType,
+                                         StatusCode statusCode) {
+        return new IndexRow(id, version, developerLevel, developerSkillType, statusCode);
+    }
+
+    private static Developer developer(Long id, Long version, DeveloperLevel developerLevel, StatusCode statusCode) {
+        return Developer.builder()
+                .id(id)
+                .version(version)
+                .developerLevel(developerLevel)
+                .developerSkillType(BACK_END)
+                .statusCode(statusCode)
+                .build();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class IndexRow implements DeveloperIndexRow {
+        private final Long id;
+        private final Long version;
+        private final DeveloperLevel developerLevel;
+        private final DeveloperSkillType developerSkillType;
+        private final StatusCode statusCode;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.dmaker.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongIntHashMapTest {
+
+    @Test
+    void missingKeyReturnsNoValue() {
+        LongIntHashMap map = new LongIntHashMap(0);
+
+        assertThat(map.get(1L)).isEqualTo(LongIntHashMap.NO_VALUE);
+    }
+
+    @Test
+    void putOverwritesExistingKey() {
+        LongIntHashMap map = new LongIntHashMap(0);
+
+        map.put(7L, 1);
+        map.put(7L, 2);
+
+        assertThat(map.get(7L)).isEqualTo(2);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsEveryKeyAcrossResizes() {
+        LongIntHashMap map = new LongIntHashMap(0);
+
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i * 31L + Long.MAX_VALUE / 2, i);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(map.get(i * 31L + Long.MAX_VALUE / 2)).isEqualTo(i);
+        }
+        assertThat(map.get(-1L)).isEqualTo(LongIntHashMap.NO_VALUE);
+    }
+
+    @Test
+    void rejectsNegativeValue() {
+        LongIntHashMap map = new LongIntHashMap(0);
+
+        assertThatThrownBy(() -> map.put(1L, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.dmaker.repository;
+
+import com.example.dmaker.code.StatusCode;
+import com.example.dmaker.entity.Developer;
+import com.example.dmaker.type.DeveloperField;
+import com.example.dmaker.type.DeveloperLevel;
+import com.example.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.persistence.Tuple;
+import javax.persistence.TupleElement;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+class DeveloperRepositoryTest {
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Test
+    void selectsOnlyRequestedFields() {
+        save("member", StatusCode.EMPLOYED);
+
+        Tuple tuple = developerRepository.findFieldsByMemberId("member",
+                EnumSet.of(DeveloperField.MEMBER_ID, DeveloperField.NAME)).orElseThrow();
+
+        assertThat(aliases(tuple)).containsExactlyInAnyOrder("memberId", "name");
+        assertThat(tuple.get("memberId", String.class)).isEqualTo("member");
+        assertThat(tuple.get("name", String.class)).isEqualTo("name-member");
+        assertThatThrownBy(() -> tuple.get("age")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findsFieldsByStatusCode() {
+        save("employed", StatusCode.EMPLOYED);
+        save("retired", StatusCode.RETIRED);
+
+        List<Tuple> tuples = developerRepository.findFieldsByStatusCode(StatusCode.EMPLOYED,
+                EnumSet.of(DeveloperField.MEMBER_ID));
+
+        assertThat(tuples).hasSize(1);
+        assertThat(aliases(tuples.get(0))).containsExactly("memberId");
+        assertThat(tuples.get(0).get("memberId", String.class)).isEqualTo("employed");
+    }
+
+    private void save(String memberId, StatusCode statusCode) {
+        developerRepository.save(Developer.builder()
+                .memberId(memberId)
+                .name("name-" + memberId)
+                .age(30)
+                .developerLevel(DeveloperLevel.JUNGNIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYear(5)
+                .statusCode(statusCode)
+                .build());
+    }
+
+    private static List<String> aliases(Tuple tuple) {
+        return tuple.getElements().stream()
+                .map(TupleElement::getAlias)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.dmaker.service;
+
+import com.example.dmaker.audit.DeveloperAuditWriter;
+import com.example.dmaker.code.StatusCode;
+import com.example.dmaker.dto.DeveloperDetailDto;
+import com.example.dmaker.dto.EditDeveloper;
+import com.example.dmaker.entity.Developer;
+import com.example.dmaker.index.DeveloperBitmapIndex;
+import com.example.dmaker.repository.DeveloperAuditRepository;
+import com.example.dmaker.repository.DeveloperRepository;
+import com.example.dmaker.repository.RetiredDeveloperRepository;
+import com.example.dmaker.type.DeveloperField;
+import com.example.dmaker.type.DeveloperLevel;
+import com.example.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DMakerServiceTest {
+
+    private static final String MEMBER_ID = "memberId";
+    private static final int THREADS = 16;
+
+    @Mock
+    private DeveloperRepository developerRepository;
+    @Mock
+    private RetiredDeveloperRepository retiredDeveloperRepository;
+    @Mock
+    private DeveloperBitmapIndex developerBitmapIndex;
+    @Mock
+    private DeveloperAuditRepository developerAuditRepository;
+    @Mock
+    private DeveloperAuditWriter developerAuditWriter;
+    @Mock
+    private EntityManager em;
+
+    @InjectMocks
+    private DMakerService dMakerService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    private final CountDownLatch firstLoadStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstLoad = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstLoad.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentDetailRequestsQueryOnce() throws Exception {
+        Developer developer = developer(DeveloperLevel.JUNGNIOR, 5);
+        AtomicInteger calls = new AtomicInteger();
+        given(developerRepository.findByMemberId(MEMBER_ID)).willAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                blockFirstLoad();
+            }
+            return Optional.of(developer);
+        });
+
+        List<Future<DeveloperDetailDto>> results = new ArrayList<>();
+        results.add(executor.submit(() -> dMakerService.getDeveloperDetail(MEMBER_ID)));
+        assertThat(firstLoadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < THREADS; i++) {
+            results.add(executor.submit(() -> dMakerService.getDeveloperDetail(MEMBER_ID)));
+        }
+        awaitWaiters(new DMakerService.DetailLoadKey(MEMBER_ID, null), THREADS - 1);
+
+        releaseFirstLoad.countDown();
+
+        Set<DeveloperDetailDto> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<DeveloperDetailDto> result : results) {
+            DeveloperDetailDto detail = result.get(5, TimeUnit.SECONDS);
+            assertThat(detail.getDeveloperLevel()).isEqualTo(DeveloperLevel.JUNGNIOR);
+            distinct.add(detail);
+        }
+        verify(developerRepository, times(1)).findByMemberId(MEMBER_ID);
+        // 같은 로딩을 기다린 요청도 각자 다른 인스턴스를 받으므로 한 요청의 수정이 다른 응답에 보이지 않는다
+        assertThat(distinct).hasSize(THREADS);
+    }
+
+    @Test
+    void concurrentFieldsRequestsQueryOncePerFieldSet() throws Exception {
+        Tuple tuple = mock(Tuple.class);
+        given(tuple.get("memberId", String.class)).willReturn(MEMBER_ID);
+        AtomicInteger calls = new AtomicInteger();
+        Set<DeveloperField> memberIdOnly = EnumSet.of(DeveloperField.MEMBER_ID);
+        given(developerRepository.findFieldsByMemberId(MEMBER_ID, memberIdOnly)).willAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                blockFirstLoad();
+            }
+            return Optional.of(tuple);
+        });
+
+        List<Future<DeveloperDetailDto>> results = new ArrayList<>();
+        results.add(executor.submit(() -> dMakerService.getDeveloperDetail(MEMBER_ID, "memberId")));
+        assertThat(firstLoadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < THREADS; i++) {
+            results.add(executor.submit(() -> dMakerService.getDeveloperDetail(MEMBER_ID, "memberId")));
+        }
+        awaitWaiters(new DMakerService.DetailLoadKey(MEMBER_ID, memberIdOnly), THREADS - 1);
+
+        releaseFirstLoad.countDown();
+
+        for (Future<DeveloperDetailDto> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getMemberId()).isEqualTo(MEMBER_ID);
+        }
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void detailRequestAfterEditDoesNotJoinStaleLoad() throws Exception {
+        Developer stale = developer(DeveloperLevel.JUNGNIOR, 5);
+        Developer current = developer(DeveloperLevel.JUNGNIOR, 5);
+        AtomicInteger calls = new AtomicInteger();
+        // 첫 조회는 수정 전의 값을 읽은 채로 붙잡혀 있고, 그 뒤의 조회는 수정된 값을 읽는다
+        given(developerRepository.findByMemberId(MEMBER_ID)).willAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                blockFirstLoad();
+                return Optional.of(stale);
+            }
+            return Optional.of(current);
+        });
+
+        Future<DeveloperDetailDto> staleLoad = executor.submit(() -> dMakerService.getDeveloperDetail(MEMBER_ID));
+        assertThat(firstLoadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        dMakerService.editDeveloper(MEMBER_ID, EditDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(12)
+                .build());
+
+        // 첫 조회가 아직 끝나지 않았어도 수정 뒤의 조회는 새로 읽는다
+        Future<DeveloperDetailDto> afterEdit = executor.submit(() -> dMakerService.getDeveloperDetail(MEMBER_ID));
+        assertThat(afterEdit.get(5, TimeUnit.SECONDS).getDeveloperLevel()).isEqualTo(DeveloperLevel.SENIOR);
+
+        releaseFirstLoad.countDown();
+        assertThat(staleLoad.get(5, TimeUnit.SECONDS).getDeveloperLevel()).isEqualTo(DeveloperLevel.JUNGNIOR);
+    }
+
+    private Developer developer(DeveloperLevel developerLevel, int experienceYear) {
+        return Developer.builder()
+                .memberId(MEMBER_ID)
+                .name("name")
+                .age(30)
+                .developerLevel(developerLevel)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYear(experienceYear)
+                .statusCode(StatusCode.EMPLOYED)
+                .build();
+    }
+
+    private void blockFirstLoad() throws InterruptedException {
+        firstLoadStarted.countDown();
+        releaseFirstLoad.await();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void awaitWaiters(DMakerService.DetailLoadKey key, int count) throws InterruptedException {
+        SingleFlight<DMakerService.DetailLoadKey, DeveloperDetailDto> loads =
+                (SingleFlight<DMakerService.DetailLoadKey, DeveloperDetailDto>)
+                        ReflectionTestUtils.getField(dMakerService, "developerDetailLoads");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loads.waiters(key) < count) {
+            if (System.nanoTime() > deadline) {
+                fail("waiters: " + loads.waiters(key));
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.dmaker.service;
+
+import com.example.dmaker.audit.DeveloperAuditWriter;
+import com.example.dmaker.code.StatusCode;
+import com.example.dmaker.dto.DeveloperDetailDto;
+import com.example.dmaker.entity.Developer;
+import com.example.dmaker.exception.DMakerException;
+import com.example.dmaker.index.DeveloperBitmapIndex;
+import com.example.dmaker.repository.DeveloperAuditRepository;
+import com.example.dmaker.repository.DeveloperRepository;
+import com.example.dmaker.repository.RetiredDeveloperRepository;
+import com.example.dmaker.type.DeveloperLevel;
+import com.example.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.example.dmaker.exception.DMakerErrorCode.NO_DEVELOPER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// ./gradlew benchmark 로만 실행된다
+@Tag("benchmark")
+class DeveloperDetailBenchmarkTest {
+
+    private static final String MEMBER_ID = "hot-member";
+    private static final int THREADS = 64;
+    private static final int REQUESTS_PER_THREAD = 50;
+    private static final long DB_LATENCY_MILLIS = 2;
+
+    // 하나의 memberId 로 getDeveloperDetail 요청이 몰리는 상황에서 findByMemberId 호출 수와 p99 를 비교한다
+    // baseline 은 coalescing 을 넣기 전의 getDeveloperDetail 과 같은 코드(findByMemberId + fromEntity)를 요청마다 실행한다
+    @Test
+    void hotKeyBenchmark() throws Exception {
+        AtomicInteger baselineQueries = new AtomicInteger();
+        DeveloperRepository baselineRepository = slowRepository(baselineQueries);
+        List<Long> baselineLatencies = runHotKeyWorkload(() -> baselineRepository.findByMemberId(MEMBER_ID)
+                .map(DeveloperDetailDto::fromEntity)
+                .orElseThrow(() -> new DMakerException(NO_DEVELOPER)));
+
+        AtomicInteger coalescedQueries = new AtomicInteger();
+        DMakerService dMakerService = new DMakerService(
+                slowRepository(coalescedQueries),
+                mock(RetiredDeveloperRepository.class),
+                mock(DeveloperBitmapIndex.class),
+                mock(DeveloperAuditRepository.class),
+                mock(DeveloperAuditWriter.class),
+                mock(EntityManager.class));
+        List<Long> coalescedLatencies = runHotKeyWorkload(() -> dMakerService.getDeveloperDetail(MEMBER_ID));
+
+        int requests = THREADS * REQUESTS_PER_THREAD;
+        System.out.printf("requests: %d%n", requests);
+        System.out.printf("baseline  - findByMemberId: %d, p99: %.2f ms%n",
+                baselineQueries.get(), p99Millis(baselineLatencies));
+        System.out.printf("coalesced - findByMemberId: %d, p99: %.2f ms%n",
+                coalescedQueries.get(), p99Millis(coalescedLatencies));
+
+        assertThat(baselineQueries.get()).isEqualTo(requests);
+        // 한 번 로딩하는 동안 들어온 요청은 모두 그 로딩에 붙으므로 DB 조회는 요청 수보다 훨씬 적어야 한다
+        assertThat(coalescedQueries.get()).isLessThanOrEqualTo(requests / 10);
+        assertThat(p99Millis(coalescedLatencies)).isLessThanOrEqualTo(p99Millis(baselineLatencies) * 2);
+    }
+
+    // findByMemberId 가 호출될 때마다 세고, DB 왕복 시간만큼 기다린다
+    private static DeveloperRepository slowRepository(AtomicInteger queries) {
+        Developer developer = Developer.builder()
+                .memberId(MEMBER_ID)
+                .name("hot")
+                .age(30)
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYear(12)
+                .statusCode(StatusCode.EMPLOYED)
+                .build();
+
+        DeveloperRepository repository = mock(DeveloperRepository.class);
+        given(repository.findByMemberId(anyString())).willAnswer(invocation -> {
+            queries.incrementAndGet();
+            Thread.sleep(DB_LATENCY_MILLIS);
+            return Optional.of(developer);
+        });
+        return repository;
+    }
+
+    private List<Long> runHotKeyWorkload(Supplier<DeveloperDetailDto> request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<Long> latencies = new ArrayList<>();
+                for (int j = 0; j < REQUESTS_PER_THREAD; j++) {
+                    long startedAt = System.nanoTime();
+                    assertThat(request.get().getMemberId()).isEqualTo(MEMBER_ID);
+                    latencies.add(System.nanoTime() - startedAt);
+                }
+                return latencies;
+            }));
+        }
+        start.countDown();
+
+        List<Long> latencies = new ArrayList<>();
+        for (Future<List<Long>> future : futures) {
+            latencies.addAll(future.get());
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        return latencies;
+    }
+
+    private static double p99Millis(List<Long> latencies) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        long p99 = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+        return p99 / 1_000_000.0;
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.dmaker.service;
+
+import com.example.dmaker.exception.DMakerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.example.dmaker.exception.DMakerErrorCode.NO_DEVELOPER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+class SingleFlightTest {
+
+    private static final String KEY = "hot-member";
+    private static final int FOLLOWERS = 16;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch leaderLoading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        Future<String> leader = startLeader(() -> "developer");
+        List<Future<String>> followers = startFollowers();
+        awaitWaiters(FOLLOWERS);
+
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("developer");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("developer");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void loaderExceptionReachesEveryWaiter() throws Exception {
+        DMakerException exception = new DMakerException(NO_DEVELOPER);
+        Future<String> leader = startLeader(() -> {
+            throw exception;
+        });
+        List<Future<String>> followers = startFollowers();
+        awaitWaiters(FOLLOWERS);
+
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(exception);
+        for (Future<String> follower : followers) {
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCause(exception);
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void keyIsRemovedAfterFailure() {
+        assertThatThrownBy(() -> singleFlight.execute(KEY, () -> {
+            throw new DMakerException(NO_DEVELOPER);
+        })).isInstanceOf(DMakerException.class);
+
+        assertThat(singleFlight.execute(KEY, () -> "developer")).isEqualTo("developer");
+    }
+
+    @Test
+    void resultIsNotCached() {
+        singleFlight.execute(KEY, () -> "first");
+
+        assertThat(singleFlight.execute(KEY, () -> "second")).isEqualTo("second");
+    }
+
+    @Test
+    void forgetLetsLaterCallersStartFreshLoad() throws Exception {
+        Future<String> leader = startLeader(() -> "stale");
+
+        singleFlight.forget(KEY);
+
+        assertThat(singleFlight.execute(KEY, () -> "fresh")).isEqualTo("fresh");
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+    }
+
+    @Test
+    void forgetIfRemovesOnlyMatchingKeys() throws Exception {
+        Future<String> leader = startLeader(() -> "stale");
+
+        // 다른 key 만 빼면 뒤이어 들어온 요청은 그대로 진행 중인 로딩에 붙는다
+        singleFlight.forgetIf(key -> key.startsWith("other"));
+        List<Future<String>> followers = startFollowers();
+        awaitWaiters(FOLLOWERS);
+
+        singleFlight.forgetIf(key -> key.startsWith("hot"));
+        assertThat(singleFlight.execute(KEY, () -> "fresh")).isEqualTo("fresh");
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        // 이미 기다리고 있던 요청은 원래 로딩의 결과를 받는다
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        }
+    }
+
+    // 로딩을 시작한 뒤 release 될 때까지 붙잡고 있는 첫 요청
+    private Future<String> startLeader(Supplier<String> result) throws InterruptedException {
+        Future<String> leader = executor.submit(() -> singleFlight.execute(KEY, () -> {
+            loads.incrementAndGet();
+            leaderLoading.countDown();
+            awaitRelease();
+            return result.get();
+        }));
+        assertThat(leaderLoading.await(5, TimeUnit.SECONDS)).isTrue();
+        return leader;
+    }
+
+    // 로딩이 진행 중일 때 들어오는 요청. 새로 로딩하게 되면 loads 가 늘어난다
+    private List<Future<String>> startFollowers() {
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute(KEY, () -> {
+                loads.incrementAndGet();
+                return "follower";
+            })));
+        }
+        return followers;
+    }
+
+    private void awaitWaiters(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.waiters(KEY) < count) {
+            if (System.nanoTime() > deadline) {
+                fail("waiters: " + singleFlight.waiters(KEY));
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}